@@ -0,0 +1,133 @@
+package org.yusaki.lib.modules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding a plugin's message pool: the name-hashed {@link ConcurrentHashMap}s MessageManager used before
+ * (plugins hash and compare by name, modules by a {@code "plugin:module"} string built per lookup) against the
+ * {@link IdentityRegistry} plus {@link MessageTable} it uses now.
+ *
+ * <p>Contention is the point, so run it at several thread counts, e.g.
+ * {@code -Djmh.args="PoolLookupBenchmark -t 1"} up to {@code -t 32}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolLookupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Pools {
+        @Param({"4", "32"})
+        public int pluginCount;
+
+        FakePlugin[] plugins;
+        String[] modules;
+        Map<FakePlugin, Object> pluginsByName;
+        Map<String, Object> modulesByKey;
+        IdentityRegistry<FakePlugin, MessageTable<Object>> registry;
+
+        @Setup
+        public void setup() {
+            plugins = new FakePlugin[pluginCount];
+            modules = new String[]{"portal", "weather", "shop", "arena"};
+            pluginsByName = new ConcurrentHashMap<>();
+            modulesByKey = new ConcurrentHashMap<>();
+            registry = new IdentityRegistry<>();
+            for (int i = 0; i < pluginCount; i++) {
+                FakePlugin plugin = new FakePlugin("Plugin" + i);
+                plugins[i] = plugin;
+                pluginsByName.put(plugin, new Object());
+                Map<String, Object> pluginModules = new LinkedHashMap<>();
+                for (String module : modules) {
+                    Object pool = new Object();
+                    modulesByKey.put(plugin.getName() + ":" + module, pool);
+                    pluginModules.put(module, pool);
+                }
+                registry.computeIfAbsent(plugin, key -> MessageTable.of(pluginModules));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        FakePlugin plugin(Pools pools) {
+            next = (next + 1) & Integer.MAX_VALUE;
+            return pools.plugins[next % pools.plugins.length];
+        }
+
+        String module(Pools pools) {
+            return pools.modules[next & (pools.modules.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Object pluginNameMap(Pools pools, Cursor cursor) {
+        return pools.pluginsByName.get(cursor.plugin(pools));
+    }
+
+    @Benchmark
+    public Object pluginIdentityRegistry(Pools pools, Cursor cursor) {
+        return pools.registry.get(cursor.plugin(pools));
+    }
+
+    @Benchmark
+    public Object moduleNameMap(Pools pools, Cursor cursor) {
+        FakePlugin plugin = cursor.plugin(pools);
+        return pools.modulesByKey.get(plugin.getName() + ":" + cursor.module(pools));
+    }
+
+    @Benchmark
+    public Object moduleIdentityRegistry(Pools pools, Cursor cursor) {
+        FakePlugin plugin = cursor.plugin(pools);
+        return pools.registry.get(plugin).get(cursor.module(pools));
+    }
+
+    /**
+     * Stand-in for a plugin: like {@code PluginBase}, the name is read through the description and used for
+     * {@code hashCode} and {@code equals}.
+     */
+    static final class FakePlugin {
+        private final Description description;
+
+        FakePlugin(String name) {
+            this.description = new Description(name);
+        }
+
+        String getName() {
+            return description.name;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + getName().hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FakePlugin plugin && Objects.equals(getName(), plugin.getName());
+        }
+
+        private record Description(String name) {
+        }
+    }
+}
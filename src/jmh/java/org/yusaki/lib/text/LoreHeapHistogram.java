@@ -0,0 +1,70 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Heap taken by item names and lore held the way a GUI holds them, with and without
+ * {@link ComponentInterner}. Prints the Adventure rows of a class histogram after a full GC for each case.
+ *
+ * <p>Not a JMH benchmark; run it through the benchmarks profile with
+ * {@code -Djmh.main=org.yusaki.lib.text.LoreHeapHistogram -Djmh.args=}.</p>
+ */
+public final class LoreHeapHistogram {
+    private static final int ITEMS = 2000;
+    private static final String[] NAMES = {"&6&lShop", "&aConfirm", "&cCancel", "&7Filler", "&eNext Page", "&ePrevious Page"};
+    private static final String[] LORE = {
+            "&7Click to open", "&7Price: &a$100", "&8&oRight-click for details", "",
+            "&eLeft-click to buy", "&cOut of stock", "&7Stock: &f64", "&bRare item"
+    };
+
+    private LoreHeapHistogram() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<List<Component>> plain = build(false);
+        print("Parsed per item", histogram());
+        plain.clear();
+
+        List<List<Component>> interned = build(true);
+        print("Interned", histogram());
+        System.out.println("Canonical components: " + ComponentInterner.componentCount()
+                + ", styles: " + ComponentInterner.styleCount() + ", items held: " + interned.size());
+    }
+
+    private static List<List<Component>> build(boolean intern) {
+        List<List<Component>> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            List<Component> text = new ArrayList<>(7);
+            text.add(ColorHelper.toComponent(NAMES[i % NAMES.length]));
+            for (int line = 0; line < 6; line++) {
+                text.add(ColorHelper.toComponent(LORE[(i + line) % LORE.length]));
+            }
+            items.add(intern ? ComponentInterner.internAll(text) : text);
+        }
+        return items;
+    }
+
+    private static String histogram() throws Exception {
+        return (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                new Object[]{null}, new String[]{String[].class.getName()});
+    }
+
+    private static void print(String label, String histogram) {
+        long instances = 0;
+        long bytes = 0;
+        for (String row : histogram.split("\n")) {
+            String[] columns = row.trim().split("\\s+");
+            if (columns.length == 4 && columns[3].startsWith("net.kyori.")) {
+                instances += Long.parseLong(columns[1]);
+                bytes += Long.parseLong(columns[2]);
+            }
+        }
+        System.out.printf("%s: %d Adventure instances, %d bytes%n", label, instances, bytes);
+    }
+}
@@ -0,0 +1,70 @@
+package org.yusaki.lib.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder substitution: the chained {@link String#replace} loop MessageManager used before, against the
+ * single-pass {@link PlaceholderTemplate}, both one-shot and with the template parsed ahead of time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaceholderBenchmark {
+    @Param({"1", "4", "16"})
+    public int placeholders;
+
+    private String message;
+    private Map<String, String> values;
+    private PlaceholderTemplate template;
+
+    @Setup
+    public void setup() {
+        StringBuilder text = new StringBuilder("&7[&6Shop&7] ");
+        values = new LinkedHashMap<>();
+        for (int i = 0; i < placeholders; i++) {
+            String name = "value_" + i;
+            text.append("&f").append(i % 2 == 0 ? "{" + name + "}" : "%" + name + "%").append(" &7and ");
+            values.put(name, "replacement " + i);
+        }
+        text.append("a tail of plain text");
+        message = text.toString();
+        template = PlaceholderTemplate.parse(message);
+    }
+
+    @Benchmark
+    public String chainedReplace() {
+        String result = message;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            result = result.replace("{" + entry.getKey() + "}", entry.getValue());
+            result = result.replace("%" + entry.getKey() + "%", entry.getValue());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String templateReplace() {
+        return PlaceholderTemplate.replace(message, values);
+    }
+
+    @Benchmark
+    public String compiledApply() {
+        return template.apply(values::get);
+    }
+}
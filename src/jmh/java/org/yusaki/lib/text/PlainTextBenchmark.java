@@ -0,0 +1,43 @@
+package org.yusaki.lib.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain text of formatted input: {@link ColorHelper#toPlain(String)}, which strips known styling in one pass,
+ * against building the component and running the plain text serializer over it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlainTextBenchmark {
+    @Param({
+            "&7[&6Shop&7] &fYou bought &e3x &bDiamond &ffor &a$100",
+            "<gold><bold>Shop</bold></gold> <gray>You bought <yellow>3x</yellow> <aqua>Diamond",
+            "<gradient:red:blue>Hover</gradient> <hover:show_text:'Info'>details</hover>"
+    })
+    public String input;
+
+    @Benchmark
+    public String strip() {
+        return ColorHelper.toPlain(input);
+    }
+
+    @Benchmark
+    public String parseAndSerialize() {
+        return ColorHelper.toPlain(ColorHelper.toComponent(input));
+    }
+}
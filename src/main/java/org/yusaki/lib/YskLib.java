@@ -12,21 +12,25 @@ import org.yusaki.lib.config.ConfigUpdateService;
 import org.yusaki.lib.gui.GUIManager;
 import org.yusaki.lib.modules.ItemLibrary;
 import org.yusaki.lib.modules.MessageManager;
+import org.yusaki.lib.modules.BoardManager;
 import org.yusaki.lib.modules.ItemEditManager;
 import org.yusaki.lib.modules.CustomItemManager;
 import org.yusaki.lib.text.ColorHelper;
+import org.yusaki.lib.text.Placeholders;
 
 import io.sentry.Sentry;
 import org.bukkit.command.Command;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 
 public final class YskLib extends JavaPlugin {
     private FoliaLib foliaLib;
     private ItemLibrary itemLibrary;
     private GUIManager guiManager;
     private MessageManager messageManager;
+    private BoardManager boardManager;
     private ItemEditManager itemEditManager;
     private CustomItemManager customItemManager;
     private final Map<String, PluginInfo> sentryRegistry = new ConcurrentHashMap<>();
@@ -52,10 +56,25 @@ public final class YskLib extends JavaPlugin {
             getLogger().info("GUI Framework module enabled!");
         }
 
+        // Enable the shared text parse cache if configured
+        if (getConfig().getBoolean("modules.text.parse-cache.enabled", false)) {
+            int maxSize = getConfig().getInt("modules.text.parse-cache.max-size", 1024);
+            if (maxSize > 0) {
+                ColorHelper.enableCache(maxSize);
+                getLogger().info("Text parse cache enabled!");
+            } else {
+                logWarn(this, "modules.text.parse-cache.max-size must be positive, got " + maxSize
+                        + "; text parse cache stays disabled");
+            }
+        }
+
         // Initialize MessageManager
         messageManager = new MessageManager(this);
         getLogger().info("MessageManager module enabled!");
 
+        // Initialize BoardManager (sidebars and boss bars)
+        boardManager = new BoardManager(this, messageManager);
+
         // Initialize ItemEditManager (optional, soft dependency)
         if (getConfig().getBoolean("modules.itemedit.enabled", true)) {
             itemEditManager = new ItemEditManager(this);
@@ -116,7 +135,11 @@ public final class YskLib extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (boardManager != null) {
+            boardManager.shutdown();
+        }
         Sentry.close();
+        ColorHelper.disableCache();
         getLogger().info("YskLib disabled!");
     }
 
@@ -196,18 +219,8 @@ public final class YskLib extends JavaPlugin {
      */
     @Deprecated
     public void sendMessage(JavaPlugin plugin, FileConfiguration config, CommandSender sender, String key, Object... args) {
-        // Convert args to Map for new MessageManager
-        Map<String, String> placeholders = MessageManager.createPlaceholders();
-        if (args != null && args.length > 0) {
-            for (int i = 0; i < args.length; i += 2) {
-                if (i + 1 < args.length) {
-                    placeholders.put(String.valueOf(args[i]), String.valueOf(args[i + 1]));
-                }
-            }
-        }
-
-        // Use new MessageManager
-        messageManager.sendMessage(plugin, sender, key, placeholders);
+        // Convert args to placeholders for new MessageManager
+        messageManager.sendMessage(plugin, sender, key, Placeholders.fromObjects(args));
     }
 
     /**
@@ -215,15 +228,7 @@ public final class YskLib extends JavaPlugin {
      */
     @Deprecated
     public void sendActionBar(JavaPlugin plugin, Player player, String key, Object... args) {
-        Map<String, String> placeholders = MessageManager.createPlaceholders();
-        if (args != null && args.length > 0) {
-            for (int i = 0; i < args.length; i += 2) {
-                if (i + 1 < args.length) {
-                    placeholders.put(String.valueOf(args[i]), String.valueOf(args[i + 1]));
-                }
-            }
-        }
-        messageManager.sendActionBar(plugin, player, key, placeholders);
+        messageManager.sendActionBar(plugin, player, key, Placeholders.fromObjects(args));
     }
 
     /**
@@ -231,15 +236,7 @@ public final class YskLib extends JavaPlugin {
      */
     @Deprecated
     public void sendTitle(JavaPlugin plugin, Player player, String titleKey, String subtitleKey, int fadeIn, int stay, int fadeOut, Object... args) {
-        Map<String, String> placeholders = MessageManager.createPlaceholders();
-        if (args != null && args.length > 0) {
-            for (int i = 0; i < args.length; i += 2) {
-                if (i + 1 < args.length) {
-                    placeholders.put(String.valueOf(args[i]), String.valueOf(args[i + 1]));
-                }
-            }
-        }
-        messageManager.sendTitle(plugin, player, titleKey, subtitleKey, fadeIn, stay, fadeOut, placeholders);
+        messageManager.sendTitle(plugin, player, titleKey, subtitleKey, fadeIn, stay, fadeOut, Placeholders.fromObjects(args));
     }
 
     public void logSevere(JavaPlugin plugin, String message) {
@@ -276,6 +273,14 @@ public final class YskLib extends JavaPlugin {
         return ColorHelper.toComponent(input);
     }
 
+    public List<Component> colorizeComponents(List<String> inputs) {
+        return ColorHelper.toComponents(inputs);
+    }
+
+    public CompletableFuture<List<Component>> colorizeComponentsAsync(List<String> inputs) {
+        return ColorHelper.toComponentsAsync(inputs);
+    }
+
     public String colorizeLegacy(String input) {
         return ColorHelper.toLegacy(input);
     }
@@ -351,6 +356,10 @@ public final class YskLib extends JavaPlugin {
         return messageManager;
     }
 
+    public BoardManager getBoardManager() {
+        return boardManager;
+    }
+
     /**
      * Load messages for a plugin (should be called in onEnable)
      * @param plugin The plugin to load messages for
@@ -1,7 +1,7 @@
 package org.yusaki.lib.gui;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
@@ -13,6 +13,7 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.yusaki.lib.YskLib;
+import org.yusaki.lib.text.ColorHelper;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +35,7 @@ public class PatternGUI implements InventoryHolder {
     protected final Map<Character, Supplier<ItemStack[]>> dynamicArrayProviders;
     protected final Map<String, Object> context;
     protected final GUIManager guiManager;
+    private final Component baseTitle;
     
     public PatternGUI(YskLib lib, JavaPlugin plugin, GUIConfig config, GUIManager guiManager) {
         this.lib = lib;
@@ -45,9 +47,10 @@ public class PatternGUI implements InventoryHolder {
         this.dynamicContentProviders = new HashMap<>();
         this.dynamicArrayProviders = new HashMap<>();
         this.context = new HashMap<>();
+        this.baseTitle = ColorHelper.fromLegacyCodes(config.getTitle());
         
         // Create inventory with placeholder processing and inventory type
-        String title = ChatColor.translateAlternateColorCodes('&', config.getTitle());
+        Component title = baseTitle;
         if (config.getInventoryType() == InventoryType.CHEST) {
             this.inventory = Bukkit.createInventory(this, parser.getInventorySize(), title);
         } else {
@@ -163,6 +166,15 @@ public class PatternGUI implements InventoryHolder {
         return processed;
     }
     
+    /**
+     * Title with context placeholders filled in; the legacy translation is reused when nothing was replaced
+     */
+    private Component renderTitle() {
+        String title = config.getTitle();
+        String processed = processPlaceholders(title);
+        return title == null || processed.equals(title) ? baseTitle : ColorHelper.fromLegacyCodes(processed);
+    }
+    
     /**
      * Get context data from the GUI
      */
@@ -177,8 +189,7 @@ public class PatternGUI implements InventoryHolder {
      */
     public void open(Player player) {
         // Recreate inventory with processed title and current context
-        String processedTitle = processPlaceholders(config.getTitle());
-        processedTitle = ChatColor.translateAlternateColorCodes('&', processedTitle);
+        Component processedTitle = renderTitle();
         
         // Create new inventory with processed title and inventory type
         if (config.getInventoryType() == InventoryType.CHEST) {
@@ -1,11 +1,14 @@
 package org.yusaki.lib.gui;
 
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.yusaki.lib.text.ComponentInterner;
 
 import java.util.*;
 
@@ -197,18 +200,13 @@ public class PatternParser {
         
         if (meta != null) {
             // Set display name
-            if (definition.getName() != null && !definition.getName().isEmpty()) {
-                String name = ChatColor.translateAlternateColorCodes('&', definition.getName());
-                meta.setDisplayName(name);
+            if (definition.getNameComponent() != null) {
+                meta.displayName(definition.getNameComponent());
             }
             
             // Set lore
-            if (definition.getLore() != null && !definition.getLore().isEmpty()) {
-                List<String> coloredLore = new ArrayList<>();
-                for (String line : definition.getLore()) {
-                    coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
-                }
-                meta.setLore(coloredLore);
+            if (!definition.getLoreComponents().isEmpty()) {
+                meta.lore(definition.getLoreComponents());
             }
             
             item.setItemMeta(meta);
@@ -246,13 +244,18 @@ public class PatternParser {
     }
     
     /**
-     * Inner class representing a slot definition from configuration
+     * Inner class representing a slot definition from configuration.
+     * Name and lore are converted once, when the first item is created, and interned, so every
+     * item created from the definition (and equal lines in other GUIs) shares the same component
+     * trees. Definitions themselves can be built without a running server.
      */
     public static class SlotDefinition {
         private final Material material;
         private final String name;
         private final List<String> lore;
         private final boolean isDynamic;
+        // Racy by design: the conversion is deterministic and a lost write only costs a second conversion
+        private ItemText itemText;
         
         public SlotDefinition(Material material, String name, List<String> lore, boolean isDynamic) {
             this.material = material;
@@ -261,9 +264,53 @@ public class PatternParser {
             this.isDynamic = isDynamic;
         }
         
+        /**
+         * Converted name and lore, computed on first use
+         */
+        private ItemText itemText() {
+            ItemText text = itemText;
+            if (text == null) {
+                boolean hasName = name != null && !name.isEmpty();
+                ItemMeta converted = hasName || !lore.isEmpty() ? toItemMeta(hasName ? name : null, lore) : null;
+                Component displayName = converted != null ? converted.displayName() : null;
+                List<Component> displayLore = converted != null ? converted.lore() : null;
+                text = new ItemText(displayName != null ? ComponentInterner.intern(displayName) : null,
+                        displayLore != null ? ComponentInterner.internAll(displayLore) : List.of());
+                itemText = text;
+            }
+            return text;
+        }
+        
+        /**
+         * Translate & codes and let the server convert the text, so names and lore look exactly
+         * like they did when they were set as legacy strings on every created item
+         */
+        private static ItemMeta toItemMeta(String name, List<String> lore) {
+            ItemMeta meta = Bukkit.getItemFactory().getItemMeta(Material.PAPER);
+            if (meta == null) {
+                return null;
+            }
+            if (name != null) {
+                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', name));
+            }
+            if (!lore.isEmpty()) {
+                List<String> coloredLore = new ArrayList<>();
+                for (String line : lore) {
+                    coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
+                }
+                meta.setLore(coloredLore);
+            }
+            return meta;
+        }
+        
         public Material getMaterial() { return material; }
         public String getName() { return name; }
         public List<String> getLore() { return new ArrayList<>(lore); }
         public boolean isDynamic() { return isDynamic; }
+        public Component getNameComponent() { return itemText().name(); }
+        public List<Component> getLoreComponents() { return itemText().lore(); }
+        
+        private record ItemText(Component name, List<Component> lore) {
+        }
     }
 }
\ No newline at end of file
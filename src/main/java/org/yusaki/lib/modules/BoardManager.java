@@ -0,0 +1,322 @@
+package org.yusaki.lib.modules;
+
+import io.papermc.paper.scoreboard.numbers.NumberFormat;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.yusaki.lib.YskLib;
+import org.yusaki.lib.text.Placeholders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Sidebars and boss bars rendered from MessageManager keys.
+ *
+ * <p>Each board keeps the last state it sent to every viewer and only pushes the title, lines, name or
+ * progress that changed since the previous update. Updates run on the viewer's entity scheduler every
+ * {@code periodTicks}, so they are safe on Folia. Lines are rendered like any other message, with the
+ * viewer's locale and the placeholder providers of the {@link PlaceholderRegistry} applied.</p>
+ *
+ * <p>Folia does not implement the scoreboard API; sidebars are unavailable there while boss bars work on
+ * every platform. Use {@link #isSidebarSupported()} to check.</p>
+ */
+public class BoardManager implements Listener {
+    private static final String OBJECTIVE_NAME = "ysklib_sidebar";
+
+    private final YskLib lib;
+    private final MessageManager messageManager;
+    private final Set<Board> boards;
+    private final boolean sidebarSupported;
+
+    public BoardManager(YskLib lib, MessageManager messageManager) {
+        this.lib = lib;
+        this.messageManager = messageManager;
+        this.boards = ConcurrentHashMap.newKeySet();
+        this.sidebarSupported = !lib.getFoliaLib().isFolia();
+
+        Bukkit.getPluginManager().registerEvents(this, lib);
+    }
+
+    /**
+     * @return {@code true} if sidebars can be shown on this server
+     */
+    public boolean isSidebarSupported() {
+        return sidebarSupported;
+    }
+
+    /**
+     * Create a sidebar whose title and lines are message keys of the plugin.
+     * @param plugin The plugin owning the messages
+     * @param titleKey Message key of the title
+     * @param lineKeys Message keys of the lines, top to bottom (at most 15)
+     * @param periodTicks Ticks between updates
+     */
+    public Board createSidebar(JavaPlugin plugin, String titleKey, List<String> lineKeys, long periodTicks) {
+        if (lineKeys.size() > 15) {
+            throw new IllegalArgumentException("A sidebar can show at most 15 lines, got " + lineKeys.size());
+        }
+        MessageManager.MessageKey[] lines = lineKeys.stream()
+                .map(key -> messageManager.key(plugin, key))
+                .toArray(MessageManager.MessageKey[]::new);
+        return register(new Board(Type.SIDEBAR, messageManager.key(plugin, titleKey), lines, periodTicks));
+    }
+
+    /**
+     * Create a boss bar whose name is a message key of the plugin.
+     * @param plugin The plugin owning the messages
+     * @param nameKey Message key of the boss bar name
+     * @param periodTicks Ticks between updates
+     */
+    public Board createBossBar(JavaPlugin plugin, String nameKey, long periodTicks) {
+        return register(new Board(Type.BOSS_BAR, messageManager.key(plugin, nameKey),
+                new MessageManager.MessageKey[0], periodTicks));
+    }
+
+    /**
+     * Hide and discard every board.
+     */
+    public void shutdown() {
+        boards.forEach(Board::discard);
+        boards.clear();
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID id = event.getPlayer().getUniqueId();
+        boards.forEach(board -> board.viewers.remove(id));
+    }
+
+    private Board register(Board board) {
+        boards.add(board);
+        return board;
+    }
+
+    private enum Type {
+        SIDEBAR,
+        BOSS_BAR
+    }
+
+    /**
+     * A sidebar or boss bar shown to any number of players.
+     */
+    public final class Board {
+        private final Type type;
+        private final MessageManager.MessageKey titleKey;
+        private final MessageManager.MessageKey[] lineKeys;
+        private final long periodTicks;
+        private final Map<UUID, Viewer> viewers = new ConcurrentHashMap<>();
+        private volatile Function<? super Player, Placeholders> placeholders = player -> Placeholders.empty();
+        private volatile ToDoubleFunction<? super Player> progress = player -> 1.0;
+        private volatile BossBar.Color color = BossBar.Color.WHITE;
+        private volatile BossBar.Overlay overlay = BossBar.Overlay.PROGRESS;
+
+        private Board(Type type, MessageManager.MessageKey titleKey, MessageManager.MessageKey[] lineKeys, long periodTicks) {
+            this.type = type;
+            this.titleKey = titleKey;
+            this.lineKeys = lineKeys;
+            this.periodTicks = Math.max(1L, periodTicks);
+        }
+
+        /**
+         * Set the per-player placeholder values used for every line.
+         */
+        public Board placeholders(Function<? super Player, Placeholders> placeholders) {
+            this.placeholders = Objects.requireNonNull(placeholders, "placeholders");
+            return this;
+        }
+
+        /**
+         * Set the boss bar progress per player, between 0 and 1. Values outside are clamped; NaN keeps the
+         * previous progress.
+         */
+        public Board progress(ToDoubleFunction<? super Player> progress) {
+            this.progress = Objects.requireNonNull(progress, "progress");
+            return this;
+        }
+
+        /**
+         * Set the boss bar colour and overlay.
+         */
+        public Board style(BossBar.Color color, BossBar.Overlay overlay) {
+            this.color = Objects.requireNonNull(color, "color");
+            this.overlay = Objects.requireNonNull(overlay, "overlay");
+            return this;
+        }
+
+        /**
+         * Start showing the board to a player; the first update runs on the next tick.
+         */
+        public void show(Player player) {
+            if (type == Type.SIDEBAR && !sidebarSupported) {
+                lib.getLogger().warning("Sidebars are not supported on this server; ignoring show request");
+                return;
+            }
+
+            Viewer viewer = new Viewer(player.getUniqueId(), lineKeys.length);
+            viewers.put(viewer.id, viewer);
+            lib.getFoliaLib().getScheduler().runAtEntityTimer(player, (task) -> {
+                if (viewers.get(viewer.id) != viewer || !player.isOnline()) {
+                    task.cancel();
+                    clear(player, viewer);
+                    return;
+                }
+                update(player, viewer);
+            }, 1L, periodTicks);
+        }
+
+        /**
+         * Stop showing the board to a player.
+         */
+        public void hide(Player player) {
+            Viewer viewer = viewers.remove(player.getUniqueId());
+            if (viewer != null) {
+                lib.getFoliaLib().getScheduler().runAtEntity(player, (task) -> clear(player, viewer));
+            }
+        }
+
+        public boolean isShown(Player player) {
+            return viewers.containsKey(player.getUniqueId());
+        }
+
+        /**
+         * Hide the board from every viewer and stop all updates.
+         */
+        public void close() {
+            viewers.keySet().forEach(id -> {
+                Player player = Bukkit.getPlayer(id);
+                if (player != null) {
+                    hide(player);
+                }
+            });
+            viewers.clear();
+            boards.remove(this);
+        }
+
+        /**
+         * Clear every viewer immediately; used while disabling, when the scheduler no longer accepts tasks.
+         */
+        private void discard() {
+            viewers.forEach((id, viewer) -> {
+                Player player = Bukkit.getPlayer(id);
+                if (player != null) {
+                    clear(player, viewer);
+                }
+            });
+            viewers.clear();
+        }
+
+        private void update(Player player, Viewer viewer) {
+            Placeholders values = placeholders.apply(player);
+            Component title = messageManager.getMessageComponent(player, titleKey, values);
+            if (type == Type.BOSS_BAR) {
+                updateBossBar(player, viewer, title);
+            } else {
+                updateSidebar(player, viewer, title, values);
+            }
+        }
+
+        private void updateBossBar(Player player, Viewer viewer, Component name) {
+            double requested = progress.applyAsDouble(player);
+            float value = Double.isNaN(requested)
+                    ? viewer.bossBar == null ? 1.0f : viewer.bossBar.progress()
+                    : (float) Math.max(0.0, Math.min(1.0, requested));
+            if (viewer.bossBar == null) {
+                viewer.bossBar = BossBar.bossBar(name, value, color, overlay);
+                viewer.title = name;
+                player.showBossBar(viewer.bossBar);
+                return;
+            }
+
+            if (!name.equals(viewer.title)) {
+                viewer.bossBar.name(name);
+                viewer.title = name;
+            }
+            if (viewer.bossBar.progress() != value) {
+                viewer.bossBar.progress(value);
+            }
+            if (viewer.bossBar.color() != color) {
+                viewer.bossBar.color(color);
+            }
+            if (viewer.bossBar.overlay() != overlay) {
+                viewer.bossBar.overlay(overlay);
+            }
+        }
+
+        private void updateSidebar(Player player, Viewer viewer, Component title, Placeholders values) {
+            if (viewer.objective == null) {
+                ScoreboardManager manager = Bukkit.getScoreboardManager();
+                Scoreboard scoreboard = manager.getNewScoreboard();
+                Objective objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, title);
+                objective.numberFormat(NumberFormat.blank());
+                objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+                viewer.objective = objective;
+                viewer.title = title;
+                player.setScoreboard(scoreboard);
+            } else if (!title.equals(viewer.title)) {
+                viewer.objective.displayName(title);
+                viewer.title = title;
+            }
+
+            for (int i = 0; i < lineKeys.length; i++) {
+                Component line = messageManager.getMessageComponent(player, lineKeys[i], values);
+                if (line.equals(viewer.lines[i])) {
+                    continue;
+                }
+                // Entries are fixed per slot; only the displayed name changes
+                Score score = viewer.objective.getScore("line-" + i);
+                score.customName(line);
+                if (viewer.lines[i] == null) {
+                    score.setScore(lineKeys.length - i);
+                }
+                viewer.lines[i] = line;
+            }
+        }
+
+        private void clear(Player player, Viewer viewer) {
+            if (viewer.bossBar != null) {
+                player.hideBossBar(viewer.bossBar);
+                viewer.bossBar = null;
+            }
+            if (viewer.objective != null) {
+                if (player.getScoreboard() == viewer.objective.getScoreboard()) {
+                    player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+                }
+                viewer.objective = null;
+            }
+        }
+    }
+
+    /**
+     * Last state sent to one player. Only touched from that player's entity scheduler.
+     */
+    private static final class Viewer {
+        final UUID id;
+        final Component[] lines;
+        Component title;
+        Objective objective;
+        BossBar bossBar;
+
+        Viewer(UUID id, int lineCount) {
+            this.id = id;
+            this.lines = new Component[lineCount];
+        }
+    }
+}
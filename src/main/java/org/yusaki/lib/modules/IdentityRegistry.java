@@ -0,0 +1,122 @@
+package org.yusaki.lib.modules;
+
+import java.util.function.Function;
+
+/**
+ * Registry keyed by object identity, read without locking.
+ *
+ * <p>Entries live in an immutable table of parallel arrays indexed by the key's identity hash with linear
+ * probing. A lookup is one volatile read, an array index and {@code ==} comparisons, so any number of
+ * threads can read concurrently without contending and without calling {@code hashCode} or {@code equals}
+ * on the key. Writers rebuild the table under a lock, which suits registrations that happen a handful of
+ * times over a plugin's lifetime.</p>
+ *
+ * @param <K> key type, compared by identity
+ * @param <V> value type
+ */
+final class IdentityRegistry<K, V> {
+    private volatile Table table = Table.EMPTY;
+
+    /**
+     * @return the value for the key, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        return (V) table.get(key);
+    }
+
+    /**
+     * @return the existing value for the key, or the one created by the factory
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        synchronized (this) {
+            value = get(key);
+            if (value == null) {
+                value = factory.apply(key);
+                table = table.with(key, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * @return the removed value, or {@code null} if absent
+     */
+    synchronized V remove(K key) {
+        V value = get(key);
+        if (value != null) {
+            table = table.without(key);
+        }
+        return value;
+    }
+
+    private static final class Table {
+        static final Table EMPTY = new Table(new Object[2], new Object[2], 0);
+
+        final Object[] keys;
+        final Object[] values;
+        final int size;
+
+        private Table(Object[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        Object get(Object key) {
+            int mask = keys.length - 1;
+            int index = slot(key, mask);
+            Object candidate;
+            while ((candidate = keys[index]) != null) {
+                if (candidate == key) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        Table with(Object key, Object value) {
+            Table table = build(size + 1, null);
+            table.insert(key, value);
+            return table;
+        }
+
+        Table without(Object key) {
+            return build(size - 1, key);
+        }
+
+        /**
+         * Copy the live entries into a table sized for {@code size} entries, skipping {@code excluded}.
+         */
+        private Table build(int size, Object excluded) {
+            int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+            Table table = new Table(new Object[capacity], new Object[capacity], size);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && keys[i] != excluded) {
+                    table.insert(keys[i], values[i]);
+                }
+            }
+            return table;
+        }
+
+        private void insert(Object key, Object value) {
+            int mask = keys.length - 1;
+            int index = slot(key, mask);
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+
+        private static int slot(Object key, int mask) {
+            int hash = System.identityHashCode(key);
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
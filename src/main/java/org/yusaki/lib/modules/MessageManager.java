@@ -1,33 +1,74 @@
 package org.yusaki.lib.modules;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.yusaki.lib.YskLib;
 import org.yusaki.lib.text.ColorHelper;
+import org.yusaki.lib.text.CompiledText;
+import org.yusaki.lib.text.ComponentInterner;
+import org.yusaki.lib.text.Placeholders;
 
+import java.io.File;
+import java.lang.ref.WeakReference;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Enhanced message manager with caching and multi-line support
  */
-public class MessageManager {
+public class MessageManager implements Listener {
+    private static final String PAGE_FOOTER_KEY = "page-footer";
+    private static final CompiledText DEFAULT_PAGE_FOOTER = ColorHelper.compile("<gray>Page {page}/{pages}");
+    private static final int PAGE_CACHE_LIMIT = 512;
+
     private final YskLib lib;
-    private final Map<JavaPlugin, PluginMessages> pluginMessages;
-    private final Map<String, PluginMessages> moduleMessages; // Key: "pluginName:moduleName"
+    private final IdentityRegistry<JavaPlugin, PluginPools> plugins;
+    private final PlaceholderRegistry placeholderProviders;
+    private final MessageThrottle messageThrottle;
 
     public MessageManager(YskLib lib) {
         this.lib = lib;
-        this.pluginMessages = new ConcurrentHashMap<>();
-        this.moduleMessages = new ConcurrentHashMap<>();
+        this.plugins = new IdentityRegistry<>();
+        this.placeholderProviders = new PlaceholderRegistry();
+        this.messageThrottle = new MessageThrottle(lib);
+
+        Bukkit.getPluginManager().registerEvents(this, lib);
+    }
+
+    /**
+     * Shared placeholder providers such as {@code {online}}, resolved for every message after the
+     * explicitly supplied placeholders.
+     */
+    public PlaceholderRegistry getPlaceholderRegistry() {
+        return placeholderProviders;
     }
 
     /**
@@ -47,30 +88,27 @@ public class MessageManager {
      * @param sectionPath The path to the messages section (e.g., "messages")
      */
     public void loadModuleMessages(JavaPlugin plugin, String moduleId, FileConfiguration config, String sectionPath) {
-        String moduleKey = plugin.getName() + ":" + moduleId;
         ConfigurationSection messagesSection = config.getConfigurationSection(sectionPath);
 
-        PluginMessages messages = moduleMessages.computeIfAbsent(moduleKey, k -> new PluginMessages());
-        
         // Always clear for module messages
-        messages.singleMessages.clear();
-        messages.multiMessages.clear();
-        messages.resetPrefix();
-
         if (messagesSection == null) {
+            withPools(plugin, pools -> pools.module(moduleId).snapshot = PluginMessages.EMPTY);
             lib.logWarn(plugin, "No messages section found at '" + sectionPath + "' for module '" + moduleId + "'!");
             return;
         }
 
-        // Load prefix FIRST before other messages
+        String prefix = "";
         if (messagesSection.contains("prefix") && messagesSection.isString("prefix")) {
             String prefixValue = messagesSection.getString("prefix");
             if (prefixValue != null) {
-                messages.updatePrefix(prefixValue);
+                prefix = prefixValue;
                 lib.logDebug(plugin, "Updated prefix for module '" + moduleId + "' from " + sectionPath);
             }
         }
 
+        Map<String, String> singleMessages = new LinkedHashMap<>();
+        Map<String, List<String>> multiMessages = new LinkedHashMap<>();
+
         int singleCount = 0;
         int multiCount = 0;
         
@@ -83,17 +121,20 @@ public class MessageManager {
             Object value = messagesSection.get(key);
 
             if (value instanceof List<?> list) {
-                List<String> messageList = list.stream()
+                multiMessages.put(key, list.stream()
                         .map(item -> item == null ? "" : item.toString())
-                        .toList();
-                messages.multiMessages.put(key, messageList);
+                        .toList());
                 multiCount++;
             } else if (value instanceof String str) {
-                messages.singleMessages.put(key, str);
+                singleMessages.put(key, str);
                 singleCount++;
             }
         }
 
+        // Publish the finished pool in one step so concurrent senders never see a half-loaded one
+        PluginMessages compiled = compileMessages(plugin, prefix, PluginMessages.EMPTY, null, singleMessages, multiMessages);
+        withPools(plugin, pools -> pools.module(moduleId).snapshot = compiled);
+
         lib.logDebug(plugin, "Loaded " + singleCount + " single and " + multiCount + 
                      " multi-line messages for module '" + moduleId + "' from " + sectionPath);
     }
@@ -118,29 +159,28 @@ public class MessageManager {
     public void loadMessages(JavaPlugin plugin, FileConfiguration config, String sectionPath, boolean clearExisting) {
         ConfigurationSection messagesSection = config.getConfigurationSection(sectionPath);
 
-        PluginMessages messages = pluginMessages.computeIfAbsent(plugin, k -> new PluginMessages());
-        
-        // Only clear if requested (allows accumulating messages from multiple sources)
-        if (clearExisting) {
-            messages.singleMessages.clear();
-            messages.multiMessages.clear();
-            messages.resetPrefix();
-        }
-
         if (messagesSection == null) {
+            withPools(plugin, pools -> {
+                if (clearExisting || pools.messages.snapshot == null) {
+                    publishDefaults(plugin, pools, PluginMessages.EMPTY);
+                }
+            });
             lib.logWarn(plugin, "No messages section found at '" + sectionPath + "'! Using default messages.");
             return;
         }
 
-        // Load prefix FIRST before other messages
+        String prefix = null;
         if (messagesSection.contains("prefix") && messagesSection.isString("prefix")) {
             String prefixValue = messagesSection.getString("prefix");
             if (prefixValue != null) {
-                messages.updatePrefix(prefixValue);
+                prefix = prefixValue;
                 lib.logDebug(plugin, "Updated prefix from " + sectionPath);
             }
         }
 
+        Map<String, String> singleMessages = new LinkedHashMap<>();
+        Map<String, List<String>> multiMessages = new LinkedHashMap<>();
+
         int singleCount = 0;
         int multiCount = 0;
         
@@ -153,107 +193,290 @@ public class MessageManager {
             Object value = messagesSection.get(key);
 
             if (value instanceof List<?> list) {
-                List<String> messageList = list.stream()
+                multiMessages.put(key, list.stream()
                         .map(item -> item == null ? "" : item.toString())
-                        .toList();
-                messages.multiMessages.put(key, messageList);
+                        .toList());
                 multiCount++;
             } else if (value instanceof String str) {
-                messages.singleMessages.put(key, str);
+                singleMessages.put(key, str);
                 singleCount++;
             }
         }
 
+        // Merging reads the current snapshot, so loads of one plugin take turns; senders never wait and never
+        // see a half-loaded pool because the finished snapshot is published in one step
+        String configuredPrefix = prefix;
+        withPools(plugin, pools -> {
+            PluginMessages current = pools.messages.snapshot;
+            // Only clear if requested (allows accumulating messages from multiple sources)
+            PluginMessages base = clearExisting || current == null ? PluginMessages.EMPTY : current;
+            publishDefaults(plugin, pools, compileMessages(plugin, configuredPrefix != null ? configuredPrefix : base.rawPrefix,
+                    base, null, singleMessages, multiMessages));
+        });
+
         lib.logDebug(plugin, "Loaded " + singleCount + " single and " + multiCount + 
                      " multi-line messages from " + sectionPath + (clearExisting ? " (cleared)" : " (merged)"));
     }
 
+    /**
+     * Load every {@code messages_<locale>.yml} bundle from the plugin's data folder, e.g.
+     * {@code messages_de.yml} or {@code messages_pt_BR.yml}. Bundles may keep their messages under a
+     * {@code messages} section or at the root of the file.
+     * @param plugin The plugin instance
+     * @return number of bundles loaded
+     */
+    public int loadLocaleBundles(JavaPlugin plugin) {
+        File[] files = plugin.getDataFolder().listFiles((dir, name) -> name.startsWith("messages_") && name.endsWith(".yml"));
+        if (files == null) {
+            return 0;
+        }
+
+        int loaded = 0;
+        for (File file : files) {
+            String name = file.getName();
+            String locale = name.substring("messages_".length(), name.length() - ".yml".length());
+            if (locale.isEmpty()) {
+                continue;
+            }
+            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
+            loadLocaleMessages(plugin, locale, config, config.isConfigurationSection("messages") ? "messages" : "");
+            loaded++;
+        }
+        return loaded;
+    }
+
+    /**
+     * Load a translated message bundle for a plugin. Players whose client locale matches the bundle receive
+     * its messages; keys missing from the bundle fall back to the language-only bundle (e.g. "de" for
+     * "de_AT") and then to the messages loaded with {@link #loadMessages(JavaPlugin)}.
+     * @param plugin The plugin instance
+     * @param locale Locale tag such as "de", "pt_BR" or "pt-br"
+     * @param config The configuration to load from
+     * @param sectionPath The path to the messages section, or "" for the root
+     */
+    public void loadLocaleMessages(JavaPlugin plugin, String locale, FileConfiguration config, String sectionPath) {
+        String tag = normalizeLocale(locale);
+        ConfigurationSection messagesSection = config.getConfigurationSection(sectionPath);
+
+        if (messagesSection == null) {
+            withPools(plugin, pools -> pools.locales().publish(tag, PluginMessages.EMPTY));
+            lib.logWarn(plugin, "No messages section found at '" + sectionPath + "' for locale '" + tag + "'!");
+            return;
+        }
+
+        String configuredPrefix = null;
+        if (messagesSection.contains("prefix") && messagesSection.isString("prefix")) {
+            configuredPrefix = messagesSection.getString("prefix");
+        }
+
+        Map<String, String> singleMessages = new LinkedHashMap<>();
+        Map<String, List<String>> multiMessages = new LinkedHashMap<>();
+
+        for (String key : messagesSection.getKeys(false)) {
+            if ("prefix".equalsIgnoreCase(key)) {
+                continue;
+            }
+
+            Object value = messagesSection.get(key);
+
+            if (value instanceof List<?> list) {
+                multiMessages.put(key, list.stream()
+                        .map(item -> item == null ? "" : item.toString())
+                        .toList());
+            } else if (value instanceof String str) {
+                singleMessages.put(key, str);
+            }
+        }
+
+        // References to keys the bundle does not translate resolve against the default messages. Compiling
+        // under the pools lock keeps a concurrent reload of the defaults from leaving the bundle on old text
+        String prefix = configuredPrefix;
+        withPools(plugin, pools -> {
+            // Bundles without their own prefix use the default one
+            PluginMessages defaults = pools.messages.snapshot;
+            String bundlePrefix = prefix != null ? prefix : defaults == null ? "" : defaults.rawPrefix;
+            pools.locales().publish(tag, compileMessages(plugin, bundlePrefix, PluginMessages.EMPTY, defaults,
+                    singleMessages, multiMessages));
+        });
+
+        lib.logDebug(plugin, "Loaded " + singleMessages.size() + " single and " + multiMessages.size() +
+                     " multi-line messages for locale '" + tag + "'");
+    }
+
+    /**
+     * Get a single-line message component in the given locale.
+     */
+    public Component getMessageComponent(JavaPlugin plugin, Locale locale, String key, Placeholders placeholders) {
+        return resolveMessage(plugin, locale, key, placeholderProviders.shared(placeholders), false).component();
+    }
+
+    /**
+     * Get a multi-line message component list in the given locale.
+     */
+    public List<Component> getMessageComponentList(JavaPlugin plugin, Locale locale, String key, Placeholders placeholders) {
+        return resolveMessageList(plugin, locale, key, placeholderProviders.shared(placeholders), false).stream()
+                .map(NormalizedMessage::component)
+                .toList();
+    }
+
     /**
      * Get a single-line message with placeholders
      */
     public String getMessage(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getMessage(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a single-line message with placeholders
+     */
+    public String getMessage(JavaPlugin plugin, String key, Placeholders placeholders) {
         return resolveMessage(plugin, key, placeholders).legacy();
     }
 
+    /**
+     * Get a single-line message with placeholders given as alternating names and values
+     */
+    public String getMessage(JavaPlugin plugin, String key, String... placeholders) {
+        return getMessage(plugin, key, Placeholders.of(placeholders));
+    }
+
     /**
      * Get a single-line message as a component with placeholders.
      */
     public Component getMessageComponent(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getMessageComponent(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a single-line message as a component with placeholders.
+     */
+    public Component getMessageComponent(JavaPlugin plugin, String key, Placeholders placeholders) {
         return resolveMessage(plugin, key, placeholders).component();
     }
 
+    /**
+     * Get a single-line message as a component with placeholders given as alternating names and values.
+     */
+    public Component getMessageComponent(JavaPlugin plugin, String key, String... placeholders) {
+        return getMessageComponent(plugin, key, Placeholders.of(placeholders));
+    }
+
     /**
      * Get a single-line message without placeholders
      */
     public String getMessage(JavaPlugin plugin, String key) {
-        return getMessage(plugin, key, new HashMap<>());
+        return getMessage(plugin, key, Placeholders.empty());
     }
 
     /**
      * Get a single-line message component without placeholders.
      */
     public Component getMessageComponent(JavaPlugin plugin, String key) {
-        return getMessageComponent(plugin, key, new HashMap<>());
+        return getMessageComponent(plugin, key, Placeholders.empty());
     }
 
     /**
      * Get a multi-line message list with placeholders
      */
     public List<String> getMessageList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        return resolveMessageList(plugin, key, placeholders).stream()
+        return getMessageList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a multi-line message list with placeholders
+     */
+    public List<String> getMessageList(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessageList(plugin, key, placeholders, false).stream()
                 .map(NormalizedMessage::legacy)
                 .toList();
     }
 
+    /**
+     * Get a multi-line message list with placeholders given as alternating names and values
+     */
+    public List<String> getMessageList(JavaPlugin plugin, String key, String... placeholders) {
+        return getMessageList(plugin, key, Placeholders.of(placeholders));
+    }
+
     /**
      * Get a multi-line message component list with placeholders.
      */
     public List<Component> getMessageComponentList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        return resolveMessageList(plugin, key, placeholders).stream()
+        return getMessageComponentList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a multi-line message component list with placeholders.
+     */
+    public List<Component> getMessageComponentList(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessageList(plugin, key, placeholders, false).stream()
                 .map(NormalizedMessage::component)
                 .toList();
     }
 
+    /**
+     * Get a multi-line message component list with placeholders given as alternating names and values.
+     */
+    public List<Component> getMessageComponentList(JavaPlugin plugin, String key, String... placeholders) {
+        return getMessageComponentList(plugin, key, Placeholders.of(placeholders));
+    }
+
     /**
      * Get a multi-line message list without placeholders
      */
     public List<String> getMessageList(JavaPlugin plugin, String key) {
-        return getMessageList(plugin, key, new HashMap<>());
+        return getMessageList(plugin, key, Placeholders.empty());
     }
 
     /**
      * Get a multi-line message component list without placeholders.
      */
     public List<Component> getMessageComponentList(JavaPlugin plugin, String key) {
-        return getMessageComponentList(plugin, key, new HashMap<>());
+        return getMessageComponentList(plugin, key, Placeholders.empty());
     }
 
     /**
-     * Replace placeholders in a message
-     * Supports both {placeholder} and %placeholder% formats for backward compatibility
+     * Send a single-line message to a sender
      */
-    private String replacePlaceholders(String message, Map<String, String> placeholders) {
-        String result = message == null ? "" : message;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            // Support both formats: {key} and %key%
-            result = result.replace("{" + entry.getKey() + "}", entry.getValue());
-            result = result.replace("%" + entry.getKey() + "%", entry.getValue());
-        }
-        return result;
+    public void sendMessage(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
+        sendMessage(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
      * Send a single-line message to a sender
      */
-    public void sendMessage(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
-        sender.sendMessage(resolveMessage(plugin, key, placeholders).component());
+    public void sendMessage(JavaPlugin plugin, CommandSender sender, String key, Placeholders placeholders) {
+        NormalizedMessage message = resolveMessage(plugin, localeOf(sender), key, placeholderProviders.forViewer(placeholders, sender), false);
+        deliver(plugin, null, key, sender, message);
+    }
+
+    /**
+     * Send a single-line message to a sender with placeholders given as alternating names and values
+     */
+    public void sendMessage(JavaPlugin plugin, CommandSender sender, String key, String... placeholders) {
+        sendMessage(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
      * Send a single-line message to a sender with the configured prefix applied.
      */
     public void sendPrefixedMessage(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
-        sender.sendMessage(applyPrefix(plugin, resolveMessage(plugin, key, placeholders)).component());
+        sendPrefixedMessage(plugin, sender, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Send a single-line message to a sender with the configured prefix applied.
+     */
+    public void sendPrefixedMessage(JavaPlugin plugin, CommandSender sender, String key, Placeholders placeholders) {
+        NormalizedMessage message = resolveMessage(plugin, localeOf(sender), key, placeholderProviders.forViewer(placeholders, sender), true);
+        deliver(plugin, null, key, sender, message);
+    }
+
+    /**
+     * Send a single-line message with prefix and placeholders given as alternating names and values.
+     */
+    public void sendPrefixedMessage(JavaPlugin plugin, CommandSender sender, String key, String... placeholders) {
+        sendPrefixedMessage(plugin, sender, key, Placeholders.of(placeholders));
     }
     
     /**
@@ -265,259 +488,1636 @@ public class MessageManager {
      * @param placeholders The placeholders to replace
      */
     public void sendModulePrefixedMessage(JavaPlugin plugin, String moduleId, CommandSender sender, String key, Map<String, String> placeholders) {
-        String moduleKey = plugin.getName() + ":" + moduleId;
-        sender.sendMessage(applyModulePrefix(moduleKey, resolveModuleMessage(moduleKey, key, placeholders)).component());
+        sendModulePrefixedMessage(plugin, moduleId, sender, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Send a module-specific single-line message with prefix
+     * @param plugin The plugin instance
+     * @param moduleId The module identifier
+     * @param sender The command sender
+     * @param key The message key
+     * @param placeholders The placeholders to replace
+     */
+    public void sendModulePrefixedMessage(JavaPlugin plugin, String moduleId, CommandSender sender, String key, Placeholders placeholders) {
+        NormalizedMessage message = resolveModuleMessage(plugin, moduleId, key, placeholderProviders.forViewer(placeholders, sender), true);
+        // The module key string is only needed to look up a coalescing rule
+        deliver(plugin, messageThrottle.isEmpty() ? null : plugin.getName() + ":" + moduleId, key, sender, message);
+    }
+
+    /**
+     * Send a module-specific single-line message with prefix
+     * @param plugin The plugin instance
+     * @param moduleId The module identifier
+     * @param sender The command sender
+     * @param key The message key
+     * @param placeholders Alternating placeholder names and values
+     */
+    public void sendModulePrefixedMessage(JavaPlugin plugin, String moduleId, CommandSender sender, String key, String... placeholders) {
+        sendModulePrefixedMessage(plugin, moduleId, sender, key, Placeholders.of(placeholders));
     }
 
     /**
      * Send a single-line message to a sender without placeholders
      */
     public void sendMessage(JavaPlugin plugin, CommandSender sender, String key) {
-        sendMessage(plugin, sender, key, new HashMap<>());
+        sendMessage(plugin, sender, key, Placeholders.empty());
     }
 
     /**
      * Send a single-line message with prefix without placeholders.
      */
     public void sendPrefixedMessage(JavaPlugin plugin, CommandSender sender, String key) {
-        sendPrefixedMessage(plugin, sender, key, new HashMap<>());
+        sendPrefixedMessage(plugin, sender, key, Placeholders.empty());
     }
 
     /**
      * Send a multi-line message to a sender
      */
     public void sendMessageList(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
-        resolveMessageList(plugin, key, placeholders)
-                .forEach(message -> sender.sendMessage(message.component()));
+        sendMessageList(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
-     * Send a multi-line message to a sender with the prefix applied to each line.
+     * Send a multi-line message to a sender
      */
-    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        resolveMessageList(plugin, key, placeholders).stream()
-                .map(normalized -> applyPrefix(messages, normalized))
-                .forEach(normalized -> sender.sendMessage(normalized.component()));
+    public void sendMessageList(JavaPlugin plugin, CommandSender sender, String key, Placeholders placeholders) {
+        resolveMessageList(plugin, localeOf(sender), key, placeholderProviders.forViewer(placeholders, sender), false)
+                .forEach(message -> send(sender, message));
     }
 
     /**
-     * Send a multi-line message to a sender without placeholders
+     * Send a multi-line message to a sender with placeholders given as alternating names and values
      */
-    public void sendMessageList(JavaPlugin plugin, CommandSender sender, String key) {
-        sendMessageList(plugin, sender, key, new HashMap<>());
+    public void sendMessageList(JavaPlugin plugin, CommandSender sender, String key, String... placeholders) {
+        sendMessageList(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
-     * Send a multi-line message with prefix without placeholders.
+     * Send one page of a multi-line message; only the lines on that page are rendered.
+     * The page is followed by a navigation footer read from {@code <key>-footer}, else from {@code page-footer},
+     * which can use {page}, {pages}, {previous_page} and {next_page}.
+     * @param page The page number starting at 1; out of range values are clamped
+     * @param pageSize Lines per page
      */
-    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key) {
-        sendPrefixedMessageList(plugin, sender, key, new HashMap<>());
+    public void sendMessagePage(JavaPlugin plugin, CommandSender sender, String key, int page, int pageSize,
+                                Placeholders placeholders) {
+        for (Component line : renderPage(plugin, sender, key, page, pageSize, placeholders)) {
+            send(sender, new NormalizedMessage(line));
+        }
     }
 
     /**
-     * Send action bar message to player
+     * Send one page of a multi-line message with placeholders given as alternating names and values.
      */
-    public void sendActionBar(JavaPlugin plugin, Player player, String key, Map<String, String> placeholders) {
-        player.sendActionBar(resolveMessage(plugin, key, placeholders).component());
+    public void sendMessagePage(JavaPlugin plugin, CommandSender sender, String key, int page, int pageSize,
+                                String... placeholders) {
+        sendMessagePage(plugin, sender, key, page, pageSize, Placeholders.of(placeholders));
     }
 
     /**
-     * Send action bar message to player without placeholders
+     * Get one page of a multi-line message rendered for a viewer, footer included,
+     * see {@link #sendMessagePage(JavaPlugin, CommandSender, String, int, int, Placeholders)}.
      */
-    public void sendActionBar(JavaPlugin plugin, Player player, String key) {
-        sendActionBar(plugin, player, key, new HashMap<>());
+    public List<Component> getMessagePage(JavaPlugin plugin, CommandSender viewer, String key, int page, int pageSize,
+                                          Placeholders placeholders) {
+        return renderPage(plugin, viewer, key, page, pageSize, placeholders);
     }
 
     /**
-     * Send title and subtitle to player
+     * Number of pages of a multi-line message as seen by a viewer, or 0 if the message does not exist.
      */
-    public void sendTitle(JavaPlugin plugin, Player player, String titleKey, String subtitleKey,
-                         int fadeIn, int stay, int fadeOut, Map<String, String> placeholders) {
-        NormalizedMessage title = resolveMessage(plugin, titleKey, placeholders);
-        NormalizedMessage subtitle = resolveMessage(plugin, subtitleKey, placeholders);
-        Title.Times times = Title.Times.times(ticksToDuration(fadeIn), ticksToDuration(stay), ticksToDuration(fadeOut));
-        player.showTitle(Title.title(title.component(), subtitle.component(), times));
+    public int getPageCount(JavaPlugin plugin, CommandSender viewer, String key, int pageSize) {
+        String lookupKey = sanitizeKey(key);
+        PluginMessages messages = messagesFor(plugin, localeOf(viewer), lookupKey, true);
+        List<MessageEntry> entries = messages == null ? null : messages.multiMessages.get(lookupKey);
+        return entries == null ? 0 : pageCount(entries.size(), pageSize);
     }
 
     /**
-     * Create a placeholder map from key-value pairs
+     * Send a multi-line message to a sender with the prefix applied to each line.
      */
-    public static Map<String, String> placeholders(String... keyValuePairs) {
-        Map<String, String> map = new HashMap<>();
-        for (int i = 0; i < keyValuePairs.length; i += 2) {
-            if (i + 1 < keyValuePairs.length) {
-                map.put(keyValuePairs[i], keyValuePairs[i + 1]);
-            }
-        }
-        return map;
+    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key, Map<String, String> placeholders) {
+        sendPrefixedMessageList(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
-     * Create an empty placeholder map
+     * Send a multi-line message to a sender with the prefix applied to each line.
      */
-    public static Map<String, String> createPlaceholders() {
-        return new HashMap<>();
+    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key, Placeholders placeholders) {
+        resolveMessageList(plugin, localeOf(sender), key, placeholderProviders.forViewer(placeholders, sender), true)
+                .forEach(message -> send(sender, message));
     }
 
     /**
-     * Clear cached messages for a plugin
+     * Send a multi-line message with the prefix applied to each line and placeholders given as alternating names and values.
      */
-    public void clearMessages(JavaPlugin plugin) {
-        pluginMessages.remove(plugin);
+    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key, String... placeholders) {
+        sendPrefixedMessageList(plugin, sender, key, Placeholders.of(placeholders));
     }
 
     /**
-     * Storage for a plugin's messages
+     * Send a multi-line message to a sender without placeholders
      */
-    private static class PluginMessages {
-        final Map<String, String> singleMessages = new ConcurrentHashMap<>();
-        final Map<String, List<String>> multiMessages = new ConcurrentHashMap<>();
-        volatile Component prefixComponent = Component.empty();
-        volatile String legacyPrefix = "";
-        volatile String plainPrefix = "";
+    public void sendMessageList(JavaPlugin plugin, CommandSender sender, String key) {
+        sendMessageList(plugin, sender, key, Placeholders.empty());
+    }
 
-        void resetPrefix() {
-            updatePrefix("");
-        }
+    /**
+     * Send a multi-line message with prefix without placeholders.
+     */
+    public void sendPrefixedMessageList(JavaPlugin plugin, CommandSender sender, String key) {
+        sendPrefixedMessageList(plugin, sender, key, Placeholders.empty());
+    }
 
-        void updatePrefix(String rawPrefix) {
-            if (rawPrefix == null || rawPrefix.isEmpty()) {
-                prefixComponent = Component.empty();
-                legacyPrefix = "";
-                plainPrefix = "";
-                return;
-            }
+    /**
+     * Send a single-line message to every recipient, rendering it only once.
+     */
+    public void broadcast(JavaPlugin plugin, String key, Map<String, String> placeholders,
+                          Collection<? extends CommandSender> recipients) {
+        broadcast(plugin, key, Placeholders.of(placeholders), recipients);
+    }
 
-            Component component = ColorHelper.toComponent(rawPrefix);
-            prefixComponent = component;
-            legacyPrefix = ColorHelper.toLegacy(component);
-            plainPrefix = ColorHelper.toPlain(component);
-        }
+    /**
+     * Send a single-line message to every recipient, rendering it only once.
+     */
+    public void broadcast(JavaPlugin plugin, String key, Placeholders placeholders,
+                          Collection<? extends CommandSender> recipients) {
+        broadcast(plugin, key, placeholders, recipients, null, false);
     }
 
-    private record NormalizedMessage(Component component, String legacy, String plain) {
+    /**
+     * Send a single-line message to the online players accepted by the filter, rendering it only once.
+     */
+    public void broadcast(JavaPlugin plugin, String key, Placeholders placeholders, Predicate<? super Player> filter) {
+        broadcast(plugin, key, placeholders, onlinePlayers(filter), null, false);
     }
 
     /**
-     * Retrieve the configured prefix for a plugin.
+     * Send a single-line message with per-recipient placeholders. The shared placeholders are applied once;
+     * only the holes they leave open are rendered for each recipient.
+     *
+     * @param perViewer placeholder values for one recipient, may return {@code null}
      */
-    public String getPrefix(JavaPlugin plugin) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        if (messages == null) {
-            return "";
-        }
-        return messages.legacyPrefix;
+    public <T extends CommandSender> void broadcast(JavaPlugin plugin, String key, Placeholders placeholders,
+                                                    Collection<T> recipients, Function<? super T, Placeholders> perViewer) {
+        broadcast(plugin, key, placeholders, recipients, perViewer, false);
     }
 
     /**
-     * Retrieve the configured prefix as a component for a plugin.
+     * Send a single-line message with the prefix applied to every recipient, rendering it only once.
      */
-    public Component getPrefixComponent(JavaPlugin plugin) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        if (messages == null) {
-            return Component.empty();
-        }
-        return messages.prefixComponent;
+    public void broadcastPrefixed(JavaPlugin plugin, String key, Map<String, String> placeholders,
+                                  Collection<? extends CommandSender> recipients) {
+        broadcastPrefixed(plugin, key, Placeholders.of(placeholders), recipients);
     }
 
     /**
-     * Get a single-line message with prefix applied.
+     * Send a single-line message with the prefix applied to every recipient, rendering it only once.
      */
-    public String getPrefixedMessage(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        return applyPrefix(plugin, resolveMessage(plugin, key, placeholders)).legacy();
+    public void broadcastPrefixed(JavaPlugin plugin, String key, Placeholders placeholders,
+                                  Collection<? extends CommandSender> recipients) {
+        broadcast(plugin, key, placeholders, recipients, null, true);
     }
 
-    public String getPrefixedMessage(JavaPlugin plugin, String key) {
-        return getPrefixedMessage(plugin, key, new HashMap<>());
+    /**
+     * Send a single-line message with the prefix applied to the online players accepted by the filter,
+     * rendering it only once.
+     */
+    public void broadcastPrefixed(JavaPlugin plugin, String key, Placeholders placeholders, Predicate<? super Player> filter) {
+        broadcast(plugin, key, placeholders, onlinePlayers(filter), null, true);
     }
 
     /**
-     * Get a single-line message component with prefix applied.
+     * Send a single-line message with the prefix applied and per-recipient placeholders. The shared
+     * placeholders are applied once; only the holes they leave open are rendered for each recipient.
+     *
+     * @param perViewer placeholder values for one recipient, may return {@code null}
      */
-    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        return applyPrefix(plugin, resolveMessage(plugin, key, placeholders)).component();
+    public <T extends CommandSender> void broadcastPrefixed(JavaPlugin plugin, String key, Placeholders placeholders,
+                                                            Collection<T> recipients, Function<? super T, Placeholders> perViewer) {
+        broadcast(plugin, key, placeholders, recipients, perViewer, true);
     }
 
-    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key) {
-        return getPrefixedMessageComponent(plugin, key, new HashMap<>());
+    /**
+     * Resolve a message key once into a reusable handle. The handle stays valid across reloads; sends through
+     * it skip key normalisation and hashing as long as the plugin's messages have not been reloaded.
+     *
+     * @param plugin The plugin instance
+     * @param key The message key, optionally starting with "messages."
+     * @return handle usable with the {@link MessageKey} overloads
+     */
+    public MessageKey key(JavaPlugin plugin, String key) {
+        return new MessageKey(this, plugin, null, sanitizeKey(key));
     }
 
     /**
-     * Get a multi-line message list with prefix applied to each line.
+     * Resolve a module message key once into a reusable handle.
+     *
+     * @param plugin The plugin instance
+     * @param moduleId The module identifier
+     * @param key The message key, optionally starting with "messages."
+     * @return handle usable with the {@link MessageKey} overloads
      */
-    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        return resolveMessageList(plugin, key, placeholders).stream()
-                .map(normalized -> applyPrefix(messages, normalized).legacy())
-                .toList();
+    public MessageKey moduleKey(JavaPlugin plugin, String moduleId, String key) {
+        return new MessageKey(this, plugin, moduleId, sanitizeKey(key));
     }
 
-    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key) {
-        return getPrefixedMessageList(plugin, key, new HashMap<>());
+    /**
+     * Get a single-line message through a handle.
+     */
+    public String getMessage(MessageKey key, Placeholders placeholders) {
+        return resolveMessage(key, null, placeholderProviders.shared(placeholders), false).legacy();
     }
 
     /**
-     * Get a multi-line message component list with prefix applied to each line.
+     * Get a single-line message component through a handle.
      */
-    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        return resolveMessageList(plugin, key, placeholders).stream()
-                .map(normalized -> applyPrefix(messages, normalized).component())
-                .toList();
+    public Component getMessageComponent(MessageKey key, Placeholders placeholders) {
+        return resolveMessage(key, null, placeholderProviders.shared(placeholders), false).component();
     }
 
-    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key) {
-        return getPrefixedMessageComponentList(plugin, key, new HashMap<>());
+    /**
+     * Get a single-line message component through a handle, rendered for a viewer: the viewer's locale and
+     * every placeholder provider that applies to them are used.
+     */
+    public Component getMessageComponent(CommandSender viewer, MessageKey key, Placeholders placeholders) {
+        return resolveMessage(key, localeOf(viewer), placeholderProviders.forViewer(placeholders, viewer), false).component();
     }
 
-    private NormalizedMessage resolveMessage(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        if (messages == null) {
-            return errorMessage("Messages not loaded for " + plugin.getName());
-        }
+    /**
+     * Get a single-line message component with prefix applied through a handle.
+     */
+    public Component getPrefixedMessageComponent(MessageKey key, Placeholders placeholders) {
+        return resolveMessage(key, null, placeholderProviders.shared(placeholders), true).component();
+    }
 
-        String lookupKey = sanitizeKey(key);
-        String raw = messages.singleMessages.get(lookupKey);
-        if (raw == null) {
-            return errorMessage("Message not found: " + key);
-        }
+    /**
+     * Get a multi-line message component list through a handle.
+     */
+    public List<Component> getMessageComponentList(MessageKey key, Placeholders placeholders) {
+        return resolveMessageList(key, null, placeholderProviders.shared(placeholders), false).stream()
+                .map(NormalizedMessage::component)
+                .toList();
+    }
 
-        return normalise(raw, placeholders);
+    /**
+     * Send a single-line message through a handle.
+     */
+    public void sendMessage(CommandSender sender, MessageKey key, Placeholders placeholders) {
+        NormalizedMessage message = resolveMessage(key, localeOf(sender), placeholderProviders.forViewer(placeholders, sender), false);
+        deliver(key.plugin(), key.moduleKey, key.key(), sender, message);
     }
-    
-    private NormalizedMessage resolveModuleMessage(String moduleKey, String key, Map<String, String> placeholders) {
-        PluginMessages messages = moduleMessages.get(moduleKey);
-        if (messages == null) {
-            return errorMessage("Module messages not loaded for " + moduleKey);
-        }
 
-        String lookupKey = sanitizeKey(key);
-        String raw = messages.singleMessages.get(lookupKey);
-        if (raw == null) {
-            return errorMessage("Module message not found: " + key + " in " + moduleKey);
-        }
+    /**
+     * Send a single-line message through a handle without placeholders.
+     */
+    public void sendMessage(CommandSender sender, MessageKey key) {
+        sendMessage(sender, key, Placeholders.empty());
+    }
 
-        return normalise(raw, placeholders);
+    /**
+     * Send a single-line message with prefix through a handle.
+     */
+    public void sendPrefixedMessage(CommandSender sender, MessageKey key, Placeholders placeholders) {
+        NormalizedMessage message = resolveMessage(key, localeOf(sender), placeholderProviders.forViewer(placeholders, sender), true);
+        deliver(key.plugin(), key.moduleKey, key.key(), sender, message);
     }
 
-    private List<NormalizedMessage> resolveMessageList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
-        PluginMessages messages = pluginMessages.get(plugin);
-        if (messages == null) {
-            return List.of(errorMessage("Messages not loaded for " + plugin.getName()));
+    /**
+     * Send a single-line message with prefix through a handle without placeholders.
+     */
+    public void sendPrefixedMessage(CommandSender sender, MessageKey key) {
+        sendPrefixedMessage(sender, key, Placeholders.empty());
+    }
+
+    /**
+     * Send a multi-line message through a handle.
+     */
+    public void sendMessageList(CommandSender sender, MessageKey key, Placeholders placeholders) {
+        resolveMessageList(key, localeOf(sender), placeholderProviders.forViewer(placeholders, sender), false)
+                .forEach(message -> send(sender, message));
+    }
+
+    /**
+     * Send a multi-line message with the prefix applied to each line through a handle.
+     */
+    public void sendPrefixedMessageList(CommandSender sender, MessageKey key, Placeholders placeholders) {
+        resolveMessageList(key, localeOf(sender), placeholderProviders.forViewer(placeholders, sender), true)
+                .forEach(message -> send(sender, message));
+    }
+
+    /**
+     * Send action bar message to player through a handle.
+     */
+    public void sendActionBar(Player player, MessageKey key, Placeholders placeholders) {
+        Component component = resolveMessage(key, player.locale(), placeholderProviders.forViewer(placeholders, player), false).component();
+        deliverActionBar(key.plugin(), key.moduleKey, key.key(), player, component);
+    }
+
+    /**
+     * Send a single-line message to every recipient through a handle, rendering it only once.
+     */
+    public void broadcast(MessageKey key, Placeholders placeholders, Collection<? extends CommandSender> recipients) {
+        broadcast(key, placeholders, recipients, null, false);
+    }
+
+    /**
+     * Send a single-line message with per-recipient placeholders through a handle.
+     *
+     * @param perViewer placeholder values for one recipient, may return {@code null}
+     */
+    public <T extends CommandSender> void broadcast(MessageKey key, Placeholders placeholders, Collection<T> recipients,
+                                                    Function<? super T, Placeholders> perViewer) {
+        broadcast(key, placeholders, recipients, perViewer, false);
+    }
+
+    /**
+     * Send a single-line message with prefix to every recipient through a handle, rendering it only once.
+     */
+    public void broadcastPrefixed(MessageKey key, Placeholders placeholders, Collection<? extends CommandSender> recipients) {
+        broadcast(key, placeholders, recipients, null, true);
+    }
+
+    /**
+     * Send a single-line message with prefix and per-recipient placeholders through a handle.
+     *
+     * @param perViewer placeholder values for one recipient, may return {@code null}
+     */
+    public <T extends CommandSender> void broadcastPrefixed(MessageKey key, Placeholders placeholders, Collection<T> recipients,
+                                                            Function<? super T, Placeholders> perViewer) {
+        broadcast(key, placeholders, recipients, perViewer, true);
+    }
+
+    /**
+     * Send action bar message to player
+     */
+    public void sendActionBar(JavaPlugin plugin, Player player, String key, Map<String, String> placeholders) {
+        sendActionBar(plugin, player, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Send action bar message to player
+     */
+    public void sendActionBar(JavaPlugin plugin, Player player, String key, Placeholders placeholders) {
+        Component component = resolveMessage(plugin, player.locale(), key, placeholderProviders.forViewer(placeholders, player), false).component();
+        deliverActionBar(plugin, null, key, player, component);
+    }
+
+    /**
+     * Send action bar message to player with placeholders given as alternating names and values
+     */
+    public void sendActionBar(JavaPlugin plugin, Player player, String key, String... placeholders) {
+        sendActionBar(plugin, player, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Send action bar message to player without placeholders
+     */
+    public void sendActionBar(JavaPlugin plugin, Player player, String key) {
+        sendActionBar(plugin, player, key, Placeholders.empty());
+    }
+
+    /**
+     * Send title and subtitle to player
+     */
+    public void sendTitle(JavaPlugin plugin, Player player, String titleKey, String subtitleKey,
+                         int fadeIn, int stay, int fadeOut, Map<String, String> placeholders) {
+        sendTitle(plugin, player, titleKey, subtitleKey, fadeIn, stay, fadeOut, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Send title and subtitle to player
+     */
+    public void sendTitle(JavaPlugin plugin, Player player, String titleKey, String subtitleKey,
+                         int fadeIn, int stay, int fadeOut, Placeholders placeholders) {
+        NormalizedMessage title = resolveMessage(plugin, player.locale(), titleKey, placeholderProviders.forViewer(placeholders, player), false);
+        NormalizedMessage subtitle = resolveMessage(plugin, player.locale(), subtitleKey, placeholderProviders.forViewer(placeholders, player), false);
+        Title.Times times = Title.Times.times(ticksToDuration(fadeIn), ticksToDuration(stay), ticksToDuration(fadeOut));
+        player.showTitle(Title.title(title.component(), subtitle.component(), times));
+    }
+
+    /**
+     * Send title and subtitle to player with placeholders given as alternating names and values
+     */
+    public void sendTitle(JavaPlugin plugin, Player player, String titleKey, String subtitleKey,
+                         int fadeIn, int stay, int fadeOut, String... placeholders) {
+        sendTitle(plugin, player, titleKey, subtitleKey, fadeIn, stay, fadeOut, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Create a tab list header and footer rendered from message keys, see {@link TabListTemplate}.
+     * Either key may name a single-line message or a message list, whose lines are joined with line breaks.
+     * @param plugin The plugin instance
+     * @param headerKey The header message key
+     * @param footerKey The footer message key
+     */
+    public TabListTemplate createTabList(JavaPlugin plugin, String headerKey, String footerKey) {
+        return new TabListTemplate(this, plugin, sanitizeKey(headerKey), sanitizeKey(footerKey));
+    }
+
+    /**
+     * Suppress repeats of a message: a player who already received the identical rendered message within
+     * the window does not get it again, and action bars for the key are merged to at most one per tick.
+     * Applies to single-line sends and action bars, not to lists or broadcasts.
+     * @param plugin The plugin instance
+     * @param key The message key
+     * @param windowTicks Suppression window in ticks; 0 disables coalescing for the key
+     */
+    public void setCoalescing(JavaPlugin plugin, String key, int windowTicks) {
+        messageThrottle.configure(plugin.getName() + "/" + sanitizeKey(key), windowTicks);
+    }
+
+    /**
+     * Suppress repeats of every message of a module, see {@link #setCoalescing(JavaPlugin, String, int)}.
+     * @param plugin The plugin instance
+     * @param moduleId The module identifier
+     * @param windowTicks Suppression window in ticks; 0 disables coalescing for the module
+     */
+    public void setModuleCoalescing(JavaPlugin plugin, String moduleId, int windowTicks) {
+        messageThrottle.configure(plugin.getName() + ":" + moduleId, windowTicks);
+    }
+
+    /**
+     * Counters of the coalescing rule for a message key.
+     */
+    public CoalescingStats getCoalescingStats(JavaPlugin plugin, String key) {
+        return messageThrottle.stats(plugin.getName() + "/" + sanitizeKey(key));
+    }
+
+    /**
+     * Counters of the coalescing rule for a module.
+     */
+    public CoalescingStats getModuleCoalescingStats(JavaPlugin plugin, String moduleId) {
+        return messageThrottle.stats(plugin.getName() + ":" + moduleId);
+    }
+
+    /**
+     * Point-in-time counters of a coalescing rule.
+     *
+     * @param sent messages delivered
+     * @param suppressed messages skipped because the recipient already had them
+     * @param merged action bars replaced by a newer one before they were sent
+     */
+    public record CoalescingStats(long sent, long suppressed, long merged) {
+    }
+
+    /**
+     * Tab list header and footer shared by many players.
+     *
+     * <p>Each update binds the shared placeholders and global providers once per locale, so only the holes
+     * that depend on the player are filled per recipient. The header and footer last sent to each player are
+     * remembered and a player whose output did not change is not sent anything. Players left out of an update
+     * are forgotten and get a full send the next time they are included.</p>
+     */
+    public static final class TabListTemplate {
+        private final MessageManager manager;
+        private final JavaPlugin plugin;
+        private final String headerKey;
+        private final String footerKey;
+        private final Map<UUID, Sent> lastSent = new ConcurrentHashMap<>();
+
+        private TabListTemplate(MessageManager manager, JavaPlugin plugin, String headerKey, String footerKey) {
+            this.manager = manager;
+            this.plugin = plugin;
+            this.headerKey = headerKey;
+            this.footerKey = footerKey;
+        }
+
+        /**
+         * Render and send the header and footer to every player whose output changed.
+         * @param players The recipients
+         * @param placeholders Values shared by every recipient
+         */
+        public void update(Collection<? extends Player> players, Placeholders placeholders) {
+            update(players, placeholders, null);
+        }
+
+        /**
+         * Render and send the header and footer to every player whose output changed. What was sent to players
+         * that are not among the recipients (for example because they left) is forgotten.
+         * @param players The recipients
+         * @param placeholders Values shared by every recipient; they win over per-player values
+         * @param perPlayer Values for one recipient, or {@code null}
+         */
+        public void update(Collection<? extends Player> players, Placeholders placeholders,
+                           Function<? super Player, Placeholders> perPlayer) {
+            if (players == null || players.isEmpty()) {
+                return;
+            }
+
+            Function<String, String> shared = manager.placeholderProviders.shared(placeholders);
+            Map<Locale, Section[]> sections = new HashMap<>();
+            for (Player player : players) {
+                Section[] bound = sections.computeIfAbsent(player.locale(), locale -> new Section[]{
+                        section(locale, headerKey, shared, perPlayer != null),
+                        section(locale, footerKey, shared, perPlayer != null)
+                });
+                Function<String, String> own = bound[0].perViewer || bound[1].perViewer
+                        ? manager.placeholderProviders.forViewer(perPlayer == null ? null : perPlayer.apply(player), player)
+                        : null;
+                Component header = bound[0].render(own);
+                Component footer = bound[1].render(own);
+
+                // A rejoined player has a new Player object and an empty tab list, so compare identity too
+                Sent previous = lastSent.get(player.getUniqueId());
+                if (previous != null && previous.player.get() == player
+                        && previous.header.equals(header) && previous.footer.equals(footer)) {
+                    continue;
+                }
+                lastSent.put(player.getUniqueId(), new Sent(new WeakReference<>(player), header, footer));
+                player.sendPlayerListHeaderAndFooter(header, footer);
+            }
+
+            // Every recipient now has an entry, so any surplus belongs to players outside this update
+            if (lastSent.size() > players.size()) {
+                Set<UUID> recipients = new HashSet<>(players.size() * 2);
+                for (Player player : players) {
+                    recipients.add(player.getUniqueId());
+                }
+                lastSent.keySet().retainAll(recipients);
+            }
+        }
+
+        /**
+         * Forget what was sent to a player, so the next update sends the header and footer again.
+         */
+        public void reset(Player player) {
+            lastSent.remove(player.getUniqueId());
+        }
+
+        /**
+         * Forget what was sent to every player.
+         */
+        public void reset() {
+            lastSent.clear();
+        }
+
+        private Section section(Locale locale, String key, Function<String, String> shared, boolean perPlayer) {
+            PluginMessages messages = manager.messagesFor(plugin, locale, key, false);
+            if (messages == null) {
+                return Section.fixed(manager.errorMessage("Messages not loaded for " + plugin.getName()).component());
+            }
+
+            List<MessageEntry> entries;
+            MessageEntry single = messages.singleMessages.get(key);
+            if (single != null) {
+                entries = List.of(single);
+            } else {
+                PluginMessages listMessages = manager.messagesFor(plugin, locale, key, true);
+                entries = listMessages == null ? null : listMessages.multiMessages.get(key);
+                if (entries == null) {
+                    return Section.fixed(manager.errorMessage("Message not found: " + key).component());
+                }
+            }
+
+            CompiledText[] lines = new CompiledText[entries.size()];
+            boolean dependent = false;
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = entries.get(i).template.bind(shared);
+                if (lines[i].hasPlaceholders()) {
+                    dependent |= perPlayer || lines[i].placeholderNames().stream()
+                            .anyMatch(manager.placeholderProviders::isViewerScoped);
+                }
+            }
+            return dependent ? new Section(lines, null, true) : Section.fixed(Section.join(lines, null));
+        }
+
+        /**
+         * Header or footer of one locale with the shared values already bound.
+         */
+        private record Section(CompiledText[] lines, Component fixed, boolean perViewer) {
+            static Section fixed(Component component) {
+                return new Section(null, component, false);
+            }
+
+            Component render(Function<String, String> resolver) {
+                return fixed != null ? fixed : join(lines, resolver);
+            }
+
+            static Component join(CompiledText[] lines, Function<String, String> resolver) {
+                if (lines.length == 1) {
+                    return resolver == null ? lines[0].component() : lines[0].render(resolver);
+                }
+                List<Component> components = new ArrayList<>(lines.length);
+                for (CompiledText line : lines) {
+                    components.add(resolver == null ? line.component() : line.render(resolver));
+                }
+                return Component.join(JoinConfiguration.newlines(), components);
+            }
+        }
+
+        /**
+         * Last header and footer sent to a player. The player is only held weakly, for the rejoin check.
+         */
+        private record Sent(WeakReference<Player> player, Component header, Component footer) {
+        }
+    }
+
+    /**
+     * Create a placeholder map from key-value pairs.
+     * Prefer {@link Placeholders#of(String...)}, which avoids building a map.
+     */
+    public static Map<String, String> placeholders(String... keyValuePairs) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (i + 1 < keyValuePairs.length) {
+                map.put(keyValuePairs[i], keyValuePairs[i + 1]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Create an empty placeholder map
+     */
+    public static Map<String, String> createPlaceholders() {
+        return new HashMap<>();
+    }
+
+    /**
+     * Clear cached messages for a plugin, including its module pools and locale bundles, and drop every
+     * reference the manager holds to the plugin. Called automatically after a plugin is disabled.
+     */
+    public void clearMessages(JavaPlugin plugin) {
+        PluginPools pools = plugins.get(plugin);
+        if (pools == null) {
+            return;
+        }
+        synchronized (pools) {
+            pools.retire();
+            plugins.remove(plugin);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == lib || !(event.getPlugin() instanceof JavaPlugin plugin) || plugins.get(plugin) == null) {
+            return;
+        }
+        // The plugin may still send messages while it shuts down, so drop its pools once that has finished
+        lib.getFoliaLib().getScheduler().runNextTick((task) -> {
+            if (!plugin.isEnabled()) {
+                clearMessages(plugin);
+            }
+        });
+    }
+
+    private PluginPools pools(JavaPlugin plugin) {
+        return plugins.computeIfAbsent(plugin, k -> new PluginPools());
+    }
+
+    /**
+     * Apply a change to the plugin's pools while holding their lock. If {@link #clearMessages(JavaPlugin)}
+     * retired the pools in the meantime, the change is applied to the freshly registered ones instead.
+     */
+    private void withPools(JavaPlugin plugin, Consumer<PluginPools> change) {
+        while (true) {
+            PluginPools pools = pools(plugin);
+            synchronized (pools) {
+                if (!pools.retired) {
+                    change.accept(pools);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace a plugin's default messages. Locale bundles expand references to keys they do not translate
+     * against the defaults, so those entries are expanded again from the new snapshot. Callers hold the
+     * pools lock.
+     */
+    private void publishDefaults(JavaPlugin plugin, PluginPools pools, PluginMessages snapshot) {
+        pools.messages.snapshot = snapshot;
+        LocaleBundles bundles = pools.locales;
+        if (bundles == null) {
+            return;
+        }
+        for (MessagePool pool : bundles.pools.values()) {
+            PluginMessages bundle = pool.snapshot;
+            Set<String> stale = bundle == null ? Set.of() : bundle.fallbackDependents();
+            if (!stale.isEmpty()) {
+                pool.snapshot = compileMessages(plugin, bundle.rawPrefix, bundle, snapshot, Map.of(), Map.of(), stale);
+            }
+        }
+    }
+
+    private PluginMessages snapshot(JavaPlugin plugin) {
+        PluginPools pools = plugins.get(plugin);
+        return pools == null ? null : pools.messages.snapshot;
+    }
+
+    private PluginMessages moduleSnapshot(JavaPlugin plugin, String moduleId) {
+        PluginPools pools = plugins.get(plugin);
+        MessagePool pool = pools == null ? null : pools.modules.get(moduleId);
+        return pool == null ? null : pool.snapshot;
+    }
+
+    private LocaleBundles localesOf(JavaPlugin plugin) {
+        PluginPools pools = plugins.get(plugin);
+        return pools == null ? null : pools.locales;
+    }
+
+    /**
+     * Every pool of one plugin. Found through an identity lookup and kept until the plugin's messages are
+     * cleared, so a send reaches its pool without hashing the plugin or building a module key string. Modules
+     * and locale bundles are added rarely and published by replacing the field. Loads and
+     * {@link #clearMessages(JavaPlugin)} synchronize on the instance.
+     */
+    private static final class PluginPools {
+        final MessagePool messages = new MessagePool();
+        volatile MessageTable<MessagePool> modules = MessageTable.empty();
+        volatile LocaleBundles locales;
+        boolean retired;
+
+        synchronized MessagePool module(String moduleId) {
+            MessagePool pool = modules.get(moduleId);
+            if (pool == null) {
+                pool = new MessagePool();
+                Map<String, MessagePool> copy = modules.toMap();
+                copy.put(moduleId, pool);
+                modules = MessageTable.of(copy);
+            }
+            return pool;
+        }
+
+        synchronized LocaleBundles locales() {
+            LocaleBundles bundles = locales;
+            if (bundles == null) {
+                bundles = new LocaleBundles();
+                locales = bundles;
+            }
+            return bundles;
+        }
+
+        /**
+         * Empty every pool so {@link MessageKey} handles still bound to them look their pool up again.
+         */
+        synchronized void retire() {
+            retired = true;
+            messages.snapshot = null;
+            for (MessagePool pool : modules.toMap().values()) {
+                pool.snapshot = null;
+            }
+            modules = MessageTable.empty();
+            locales = null;
+        }
+    }
+
+    /**
+     * Translated bundles of one plugin keyed by normalised locale tag, plus the memoised fallback chain for
+     * every client locale seen so far. Chains reference pool holders, so reloading a bundle keeps them valid.
+     * Adding a bundle replaces the whole chain map after the bundle is visible, so a chain built concurrently
+     * from the old bundles can only land in the discarded map.
+     */
+    private static final class LocaleBundles {
+        final Map<String, MessagePool> pools = new ConcurrentHashMap<>();
+        private volatile Map<Locale, List<MessagePool>> chains = new ConcurrentHashMap<>();
+
+        List<MessagePool> chain(Locale locale) {
+            return chains.computeIfAbsent(locale, this::buildChain);
+        }
+
+        synchronized void publish(String tag, PluginMessages snapshot) {
+            MessagePool pool = pools.get(tag);
+            if (pool != null) {
+                pool.snapshot = snapshot;
+                return;
+            }
+            pool = new MessagePool();
+            pool.snapshot = snapshot;
+            pools.put(tag, pool);
+            // A new bundle can change which bundles a locale falls back to
+            chains = new ConcurrentHashMap<>();
+        }
+
+        private List<MessagePool> buildChain(Locale locale) {
+            String language = normalizeLocale(locale.getLanguage());
+            String country = normalizeLocale(locale.getCountry());
+            List<MessagePool> chain = new ArrayList<>(2);
+            if (!country.isEmpty()) {
+                MessagePool pool = pools.get(language + "_" + country);
+                if (pool != null) {
+                    chain.add(pool);
+                }
+            }
+            MessagePool pool = pools.get(language);
+            if (pool != null) {
+                chain.add(pool);
+            }
+            return List.copyOf(chain);
+        }
+    }
+
+    /**
+     * Holder for the current snapshot of one message pool. Loads replace the snapshot with a single volatile
+     * write; the holder itself stays put so {@link MessageKey} handles can keep a reference to it.
+     */
+    private static final class MessagePool {
+        volatile PluginMessages snapshot;
+    }
+
+    /**
+     * Pre-resolved handle to a message key. The key is normalised once, and its slot in the current snapshot
+     * is remembered; after a reload the slot is looked up again on first use. Handles are cheap, immutable
+     * from the caller's point of view and safe to keep in static fields.
+     */
+    public static final class MessageKey {
+        private final MessageManager manager;
+        private final JavaPlugin plugin;
+        private final String moduleId;
+        private final String moduleKey;
+        private final String key;
+        private Binding binding;
+
+        private MessageKey(MessageManager manager, JavaPlugin plugin, String moduleId, String key) {
+            this.manager = manager;
+            this.plugin = plugin;
+            this.moduleId = moduleId;
+            this.moduleKey = moduleId == null ? null : plugin.getName() + ":" + moduleId;
+            this.key = key;
+        }
+
+        /**
+         * @return the normalised message key
+         */
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @return the owning plugin
+         */
+        public JavaPlugin plugin() {
+            return plugin;
+        }
+
+        boolean isPluginKey() {
+            return moduleKey == null;
+        }
+
+        /**
+         * Racy memoisation is fine here: bindings are immutable and a stale one is detected by identity.
+         *
+         * @return slots for the current snapshot, or {@code null} if no messages are loaded
+         */
+        Binding binding() {
+            Binding current = binding;
+            if (current != null) {
+                PluginMessages live = current.pool.snapshot;
+                if (live == current.snapshot) {
+                    return current;
+                }
+                if (live != null) {
+                    current = new Binding(current.pool, live, key);
+                    binding = current;
+                    return current;
+                }
+            }
+
+            PluginPools pools = manager.plugins.get(plugin);
+            MessagePool pool = pools == null ? null : moduleId == null ? pools.messages : pools.modules.get(moduleId);
+            PluginMessages live = pool == null ? null : pool.snapshot;
+            if (live == null) {
+                return null;
+            }
+            current = new Binding(pool, live, key);
+            binding = current;
+            return current;
+        }
+
+        String notLoadedReason() {
+            return moduleKey == null
+                    ? "Messages not loaded for " + plugin.getName()
+                    : "Module messages not loaded for " + moduleKey;
+        }
+
+        String notFoundReason() {
+            return moduleKey == null
+                    ? "Message not found: " + key
+                    : "Module message not found: " + key + " in " + moduleKey;
+        }
+
+        @Override
+        public String toString() {
+            return "MessageKey{" + (moduleKey == null ? plugin.getName() : moduleKey) + ":" + key + "}";
+        }
+
+        /**
+         * Slots of a key within one snapshot.
+         */
+        private static final class Binding {
+            final MessagePool pool;
+            final PluginMessages snapshot;
+            final int singleIndex;
+            final int multiIndex;
+
+            Binding(MessagePool pool, PluginMessages snapshot, String key) {
+                this.pool = pool;
+                this.snapshot = snapshot;
+                this.singleIndex = snapshot.singleMessages.indexOf(key);
+                this.multiIndex = snapshot.multiMessages.indexOf(key);
+            }
+
+            MessageEntry single() {
+                return snapshot.singleMessages.valueAt(singleIndex);
+            }
+
+            List<MessageEntry> multi() {
+                return snapshot.multiMessages.valueAt(multiIndex);
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of a plugin's messages. Reloads build a new snapshot and swap it in with a single
+     * map write, so lookups never lock and never observe a partially loaded pool.
+     */
+    private static final class PluginMessages {
+        static final PluginMessages EMPTY = new PluginMessages("", Map.of(), Map.of());
+
+        final String rawPrefix;
+        final Component prefixComponent;
+        final String legacyPrefix;
+        final String plainPrefix;
+        final MessageTable<MessageEntry> singleMessages;
+        final MessageTable<List<MessageEntry>> multiMessages;
+        // Referenced key -> keys whose text references it directly
+        final Map<String, Set<String>> dependents;
+        // Pages without placeholders, rendered on first use; dropped with the snapshot on reload
+        final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+
+        PluginMessages(String rawPrefix, Map<String, MessageEntry> singleMessages,
+                       Map<String, List<MessageEntry>> multiMessages) {
+            this.rawPrefix = rawPrefix == null ? "" : rawPrefix;
+            if (this.rawPrefix.isEmpty()) {
+                prefixComponent = Component.empty();
+                legacyPrefix = "";
+                plainPrefix = "";
+            } else {
+                prefixComponent = ComponentInterner.intern(ColorHelper.toComponent(this.rawPrefix));
+                legacyPrefix = ColorHelper.toLegacy(prefixComponent);
+                plainPrefix = ColorHelper.toPlain(prefixComponent);
+            }
+
+            // Entries may come from an older snapshot; bind their precomputed prefixed variant to this prefix
+            Map<String, MessageEntry> singles = new HashMap<>();
+            singleMessages.forEach((key, entry) -> singles.put(key, entry.withPrefix(this)));
+            Map<String, List<MessageEntry>> multis = new HashMap<>();
+            multiMessages.forEach((key, entries) -> multis.put(key, entries.stream()
+                    .map(entry -> entry.withPrefix(this))
+                    .toList()));
+            this.singleMessages = MessageTable.of(singles);
+            this.multiMessages = MessageTable.of(multis);
+
+            Map<String, Set<String>> graph = new HashMap<>();
+            singles.forEach((key, entry) -> MessageReferences.addDependents(graph, key, entry.raw));
+            multis.forEach((key, entries) -> entries.forEach(entry -> MessageReferences.addDependents(graph, key, entry.raw)));
+            this.dependents = graph;
+        }
+
+        /**
+         * @return every key that references one of the given keys, directly or through other messages
+         */
+        Set<String> dependentsOf(Collection<String> keys) {
+            return MessageReferences.dependentsOf(dependents, keys);
+        }
+
+        /**
+         * @return every key that references a single-line message this snapshot does not hold
+         */
+        Set<String> fallbackDependents() {
+            return MessageReferences.fallbackDependents(dependents, key -> singleMessages.get(key) != null);
+        }
+    }
+
+    private record PageKey(String key, int page, int pageSize) {
+    }
+
+    private record CachedRender(int hash, String[] values, NormalizedMessage message) {
+    }
+
+    /**
+     * @param footerSource snapshot the footer was read from; the page is stale once it is replaced
+     */
+    private record CachedPage(PluginMessages footerSource, List<Component> lines) {
+    }
+
+    /**
+     * A compiled message. Messages without placeholders are rendered once at load time, together with
+     * their legacy and plain forms and their prefixed variant, so sending them only reuses those results.
+     *
+     * <p>Messages with placeholders remember their most recent renders in a small direct-mapped table keyed
+     * by a hash of the placeholder values, so sending the same values again skips rendering. The table lives
+     * and dies with the entry, which a reload replaces.</p>
+     */
+    private static final class MessageEntry {
+        private static final int RENDER_CACHE_SIZE = 16;
+        private static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+        final String raw;
+        final CompiledText template;
+        final NormalizedMessage rendered;
+        final NormalizedMessage prefixed;
+        private final String[] placeholderNames;
+        // Racy by design: slots hold immutable renders and a lost write only costs a re-render
+        private final CachedRender[] renders;
+
+        MessageEntry(String raw, CompiledText template) {
+            this(raw, template, template.hasPlaceholders() ? null : new NormalizedMessage(template.component()), null);
+            if (rendered != null) {
+                rendered.legacy();
+                rendered.plain();
+            }
+        }
+
+        private MessageEntry(String raw, CompiledText template, NormalizedMessage rendered, NormalizedMessage prefixed) {
+            this.raw = raw;
+            this.template = template;
+            this.rendered = rendered;
+            this.prefixed = prefixed;
+            this.placeholderNames = rendered == null ? template.placeholderNames().toArray(new String[0]) : null;
+            this.renders = rendered == null ? new CachedRender[RENDER_CACHE_SIZE] : null;
+        }
+
+        /**
+         * @return this entry with its prefixed variant computed for the snapshot's prefix
+         */
+        MessageEntry withPrefix(PluginMessages messages) {
+            if (rendered == null) {
+                return this;
+            }
+            NormalizedMessage variant = applyPrefix(messages, rendered);
+            variant.legacy();
+            variant.plain();
+            return new MessageEntry(raw, template, rendered, variant);
+        }
+
+        NormalizedMessage render(Function<String, String> placeholders) {
+            if (rendered != null) {
+                return rendered;
+            }
+            if (placeholders == null) {
+                return new NormalizedMessage(template.component());
+            }
+
+            String[] values = new String[placeholderNames.length];
+            int hash = 1;
+            boolean cacheable = true;
+            for (int i = 0; i < values.length; i++) {
+                String value = placeholders.apply(placeholderNames[i]);
+                values[i] = value;
+                hash = 31 * hash + (value == null ? 0 : value.hashCode());
+                cacheable &= value == null || value.length() <= MAX_CACHED_VALUE_LENGTH;
+            }
+
+            int slot = (hash ^ (hash >>> 16)) & (RENDER_CACHE_SIZE - 1);
+            CachedRender cached = renders[slot];
+            if (cached != null && cached.hash() == hash && Arrays.equals(cached.values(), values)) {
+                return cached.message();
+            }
+
+            NormalizedMessage message = new NormalizedMessage(template.render(name -> valueOf(values, name)));
+            if (cacheable) {
+                renders[slot] = new CachedRender(hash, values, message);
+            }
+            return message;
+        }
+
+        private String valueOf(String[] values, String name) {
+            for (int i = 0; i < placeholderNames.length; i++) {
+                if (placeholderNames[i].equals(name)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        NormalizedMessage renderPrefixed(PluginMessages messages, Function<String, String> placeholders) {
+            if (prefixed != null) {
+                return prefixed;
+            }
+            return applyPrefix(messages, render(placeholders));
+        }
+    }
+
+    /**
+     * Rendered message whose legacy and plain forms are only serialised when first requested.
+     * Racy memoisation is fine here: the serialised strings are immutable and deterministic.
+     */
+    private static final class NormalizedMessage {
+        private final Component component;
+        private final NormalizedMessage base;
+        private final String legacyPrefix;
+        private final String plainPrefix;
+        private String legacy;
+        private String plain;
+
+        NormalizedMessage(Component component) {
+            this(component, null, null, null);
+        }
+
+        private NormalizedMessage(Component component, NormalizedMessage base, String legacyPrefix, String plainPrefix) {
+            this.component = component;
+            this.base = base;
+            this.legacyPrefix = legacyPrefix;
+            this.plainPrefix = plainPrefix;
+        }
+
+        /**
+         * Create the prefixed variant of a message; its strings are derived from the unprefixed ones.
+         */
+        static NormalizedMessage prefixed(PluginMessages messages, NormalizedMessage base) {
+            return new NormalizedMessage(messages.prefixComponent.append(base.component()), base,
+                    messages.legacyPrefix, messages.plainPrefix);
+        }
+
+        Component component() {
+            return component;
+        }
+
+        String legacy() {
+            String value = legacy;
+            if (value == null) {
+                value = base == null ? ColorHelper.toLegacy(component) : legacyPrefix + base.legacy();
+                legacy = value;
+            }
+            return value;
+        }
+
+        String plain() {
+            String value = plain;
+            if (value == null) {
+                value = base == null ? ColorHelper.toPlain(component) : plainPrefix + base.plain();
+                plain = value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Retrieve the configured prefix for a plugin.
+     */
+    public String getPrefix(JavaPlugin plugin) {
+        PluginMessages messages = snapshot(plugin);
+        if (messages == null) {
+            return "";
+        }
+        return messages.legacyPrefix;
+    }
+
+    /**
+     * Retrieve the configured prefix as a component for a plugin.
+     */
+    public Component getPrefixComponent(JavaPlugin plugin) {
+        PluginMessages messages = snapshot(plugin);
+        if (messages == null) {
+            return Component.empty();
+        }
+        return messages.prefixComponent;
+    }
+
+    /**
+     * Get a single-line message with prefix applied.
+     */
+    public String getPrefixedMessage(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getPrefixedMessage(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a single-line message with prefix applied.
+     */
+    public String getPrefixedMessage(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolvePrefixedMessage(plugin, key, placeholders).legacy();
+    }
+
+    /**
+     * Get a single-line message with prefix applied and placeholders given as alternating names and values.
+     */
+    public String getPrefixedMessage(JavaPlugin plugin, String key, String... placeholders) {
+        return getPrefixedMessage(plugin, key, Placeholders.of(placeholders));
+    }
+
+    public String getPrefixedMessage(JavaPlugin plugin, String key) {
+        return getPrefixedMessage(plugin, key, Placeholders.empty());
+    }
+
+    /**
+     * Get a single-line message component with prefix applied.
+     */
+    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getPrefixedMessageComponent(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a single-line message component with prefix applied.
+     */
+    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolvePrefixedMessage(plugin, key, placeholders).component();
+    }
+
+    /**
+     * Get a single-line message component with prefix applied and placeholders given as alternating names and values.
+     */
+    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key, String... placeholders) {
+        return getPrefixedMessageComponent(plugin, key, Placeholders.of(placeholders));
+    }
+
+    public Component getPrefixedMessageComponent(JavaPlugin plugin, String key) {
+        return getPrefixedMessageComponent(plugin, key, Placeholders.empty());
+    }
+
+    /**
+     * Get a multi-line message list with prefix applied to each line.
+     */
+    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getPrefixedMessageList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a multi-line message list with prefix applied to each line.
+     */
+    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessageList(plugin, key, placeholders, true).stream()
+                .map(NormalizedMessage::legacy)
+                .toList();
+    }
+
+    /**
+     * Get a multi-line message list with prefix applied to each line and placeholders given as alternating names and values.
+     */
+    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key, String... placeholders) {
+        return getPrefixedMessageList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    public List<String> getPrefixedMessageList(JavaPlugin plugin, String key) {
+        return getPrefixedMessageList(plugin, key, Placeholders.empty());
+    }
+
+    /**
+     * Get a multi-line message component list with prefix applied to each line.
+     */
+    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key, Map<String, String> placeholders) {
+        return getPrefixedMessageComponentList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    /**
+     * Get a multi-line message component list with prefix applied to each line.
+     */
+    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessageList(plugin, key, placeholders, true).stream()
+                .map(NormalizedMessage::component)
+                .toList();
+    }
+
+    /**
+     * Get a multi-line message component list with prefix applied to each line and placeholders given as alternating names and values.
+     */
+    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key, String... placeholders) {
+        return getPrefixedMessageComponentList(plugin, key, Placeholders.of(placeholders));
+    }
+
+    public List<Component> getPrefixedMessageComponentList(JavaPlugin plugin, String key) {
+        return getPrefixedMessageComponentList(plugin, key, Placeholders.empty());
+    }
+
+    private NormalizedMessage resolveMessage(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessage(plugin, key, placeholders, false);
+    }
+
+    private NormalizedMessage resolvePrefixedMessage(JavaPlugin plugin, String key, Placeholders placeholders) {
+        return resolveMessage(plugin, key, placeholders, true);
+    }
+
+    private NormalizedMessage resolveMessage(JavaPlugin plugin, String key, Placeholders placeholders, boolean prefixed) {
+        return resolveMessage(plugin, null, key, placeholderProviders.shared(placeholders), prefixed);
+    }
+
+    private NormalizedMessage resolveMessage(JavaPlugin plugin, Locale locale, String key, Function<String, String> placeholders,
+                                             boolean prefixed) {
+        String lookupKey = sanitizeKey(key);
+        PluginMessages messages = messagesFor(plugin, locale, lookupKey, false);
+        if (messages == null) {
+            return errorMessage("Messages not loaded for " + plugin.getName());
+        }
+
+        MessageEntry entry = messages.singleMessages.get(lookupKey);
+        if (entry == null) {
+            NormalizedMessage error = errorMessage("Message not found: " + key);
+            return prefixed ? applyPrefix(messages, error) : error;
+        }
+
+        return render(messages, entry, placeholders, prefixed);
+    }
+    
+    private NormalizedMessage resolveModuleMessage(JavaPlugin plugin, String moduleId, String key, Function<String, String> placeholders,
+                                                   boolean prefixed) {
+        PluginMessages messages = moduleSnapshot(plugin, moduleId);
+        if (messages == null) {
+            return errorMessage("Module messages not loaded for " + plugin.getName() + ":" + moduleId);
+        }
+
+        String lookupKey = sanitizeKey(key);
+        MessageEntry entry = messages.singleMessages.get(lookupKey);
+        if (entry == null) {
+            NormalizedMessage error = errorMessage("Module message not found: " + key + " in " + plugin.getName() + ":" + moduleId);
+            return prefixed ? applyPrefix(messages, error) : error;
+        }
+
+        return render(messages, entry, placeholders, prefixed);
+    }
+
+    private List<NormalizedMessage> resolveMessageList(JavaPlugin plugin, String key, Placeholders placeholders, boolean prefixed) {
+        return resolveMessageList(plugin, null, key, placeholderProviders.shared(placeholders), prefixed);
+    }
+
+    private List<NormalizedMessage> resolveMessageList(JavaPlugin plugin, Locale locale, String key, Function<String, String> placeholders,
+                                                       boolean prefixed) {
+        String lookupKey = sanitizeKey(key);
+        PluginMessages messages = messagesFor(plugin, locale, lookupKey, true);
+        if (messages == null) {
+            return List.of(errorMessage("Messages not loaded for " + plugin.getName()));
+        }
+
+        List<MessageEntry> entries = messages.multiMessages.get(lookupKey);
+        if (entries == null) {
+            NormalizedMessage error = errorMessage("Message list not found: " + key);
+            return List.of(prefixed ? applyPrefix(messages, error) : error);
+        }
+
+        return entries.stream()
+                .map(entry -> render(messages, entry, placeholders, prefixed))
+                .toList();
+    }
+
+    private List<Component> renderPage(JavaPlugin plugin, CommandSender viewer, String key, int page, int pageSize,
+                                       Placeholders placeholders) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1, got " + pageSize);
+        }
+        String lookupKey = sanitizeKey(key);
+        Locale locale = localeOf(viewer);
+        PluginMessages messages = messagesFor(plugin, locale, lookupKey, true);
+        if (messages == null) {
+            return List.of(errorMessage("Messages not loaded for " + plugin.getName()).component());
+        }
+        List<MessageEntry> entries = messages.multiMessages.get(lookupKey);
+        if (entries == null) {
+            return List.of(errorMessage("Message list not found: " + key).component());
+        }
+
+        int pages = pageCount(entries.size(), pageSize);
+        int current = Math.max(1, Math.min(page, pages));
+        String footerKey = lookupKey + "-footer";
+        PluginMessages footerMessages = messagesFor(plugin, locale, footerKey, false);
+        MessageEntry footer = footerMessages == null ? null : footerMessages.singleMessages.get(footerKey);
+        if (footer == null) {
+            footerMessages = messagesFor(plugin, locale, PAGE_FOOTER_KEY, false);
+            footer = footerMessages == null ? null : footerMessages.singleMessages.get(PAGE_FOOTER_KEY);
+        }
+        CompiledText footerText = (footer == null ? DEFAULT_PAGE_FOOTER : footer.template)
+                .bind(Placeholders.of(
+                        "page", Integer.toString(current),
+                        "pages", Integer.toString(pages),
+                        "previous_page", Integer.toString(Math.max(1, current - 1)),
+                        "next_page", Integer.toString(Math.min(pages, current + 1))));
+
+        List<MessageEntry> window = entries.subList((current - 1) * pageSize, Math.min(entries.size(), current * pageSize));
+        boolean cacheable = !footerText.hasPlaceholders() && window.stream().allMatch(entry -> entry.rendered != null);
+        PageKey pageKey = new PageKey(lookupKey, current, pageSize);
+        if (cacheable) {
+            CachedPage cached = messages.pages.get(pageKey);
+            if (cached != null && cached.footerSource() == footerMessages) {
+                return cached.lines();
+            }
+        }
+
+        Function<String, String> resolver = placeholderProviders.forViewer(placeholders, viewer);
+        List<Component> lines = new ArrayList<>(window.size() + 1);
+        for (MessageEntry entry : window) {
+            lines.add(entry.render(resolver).component());
+        }
+        lines.add(resolver == null ? footerText.component() : footerText.render(resolver));
+        List<Component> result = List.copyOf(lines);
+        if (cacheable && messages.pages.size() < PAGE_CACHE_LIMIT) {
+            messages.pages.put(pageKey, new CachedPage(footerMessages, result));
+        }
+        return result;
+    }
+
+    private static int pageCount(int lines, int pageSize) {
+        return Math.max(1, (lines + pageSize - 1) / Math.max(1, pageSize));
+    }
+
+    private <T extends CommandSender> void broadcast(JavaPlugin plugin, String key, Placeholders placeholders,
+                                                     Collection<T> recipients, Function<? super T, Placeholders> perViewer,
+                                                     boolean prefixed) {
+        if (recipients == null || recipients.isEmpty()) {
+            return;
         }
 
         String lookupKey = sanitizeKey(key);
-        List<String> rawList = messages.multiMessages.get(lookupKey);
-        if (rawList == null) {
-            return List.of(errorMessage("Message list not found: " + key));
+        LocaleBundles bundles = localesOf(plugin);
+        if (bundles == null) {
+            broadcast(plugin, snapshot(plugin), key, lookupKey, placeholders, recipients, perViewer, prefixed);
+            return;
+        }
+
+        // Render once per bundle rather than once per recipient
+        Map<PluginMessages, List<T>> groups = new IdentityHashMap<>();
+        List<T> unloaded = new ArrayList<>();
+        for (T recipient : recipients) {
+            PluginMessages messages = messagesFor(plugin, localeOf(recipient), lookupKey, false);
+            if (messages == null) {
+                unloaded.add(recipient);
+            } else {
+                groups.computeIfAbsent(messages, k -> new ArrayList<>()).add(recipient);
+            }
+        }
+        groups.forEach((messages, group) ->
+                broadcast(plugin, messages, key, lookupKey, placeholders, group, perViewer, prefixed));
+        if (!unloaded.isEmpty()) {
+            broadcast(plugin, null, key, lookupKey, placeholders, unloaded, perViewer, prefixed);
+        }
+    }
+
+    private <T extends CommandSender> void broadcast(JavaPlugin plugin, PluginMessages messages, String key, String lookupKey,
+                                                     Placeholders placeholders, Collection<T> recipients,
+                                                     Function<? super T, Placeholders> perViewer, boolean prefixed) {
+        if (messages == null) {
+            sendAll(recipients, errorMessage("Messages not loaded for " + plugin.getName()));
+            return;
+        }
+        MessageEntry entry = messages.singleMessages.get(lookupKey);
+        if (entry == null) {
+            sendAll(recipients, finish(messages, errorMessage("Message not found: " + key), prefixed));
+            return;
+        }
+        broadcast(messages, entry, placeholders, recipients, perViewer, prefixed);
+    }
+
+    /**
+     * Pick the snapshot a message is read from: the first bundle in the locale's fallback chain that
+     * defines the key, otherwise the default messages.
+     */
+    private PluginMessages messagesFor(JavaPlugin plugin, Locale locale, String lookupKey, boolean list) {
+        if (locale != null) {
+            LocaleBundles bundles = localesOf(plugin);
+            if (bundles != null) {
+                for (MessagePool pool : bundles.chain(locale)) {
+                    PluginMessages messages = pool.snapshot;
+                    if (messages != null && (list ? messages.multiMessages : messages.singleMessages).indexOf(lookupKey) >= 0) {
+                        return messages;
+                    }
+                }
+            }
+        }
+        return snapshot(plugin);
+    }
+
+    private static Locale localeOf(CommandSender sender) {
+        return sender instanceof Player player ? player.locale() : null;
+    }
+
+    private static String normalizeLocale(String locale) {
+        return locale == null ? "" : locale.trim().replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+    private <T extends CommandSender> void broadcast(PluginMessages messages, MessageEntry entry, Placeholders placeholders,
+                                                     Collection<T> recipients, Function<? super T, Placeholders> perViewer,
+                                                     boolean prefixed) {
+        Function<String, String> shared = placeholderProviders.shared(placeholders);
+        if (entry.rendered != null || (perViewer == null && !placeholderProviders.hasViewerScoped())) {
+            sendAll(recipients, render(messages, entry, shared, prefixed));
+            return;
+        }
+
+        CompiledText partial = entry.template.bind(shared);
+        if (perViewer == null && partial.placeholderNames().stream().noneMatch(placeholderProviders::isViewerScoped)) {
+            sendAll(recipients, finish(messages, new NormalizedMessage(partial.component()), prefixed));
+            return;
+        }
+
+        for (T recipient : recipients) {
+            Placeholders own = perViewer == null ? null : perViewer.apply(recipient);
+            NormalizedMessage rendered = new NormalizedMessage(partial.render(placeholderProviders.forViewer(own, recipient)));
+            send(recipient, finish(messages, rendered, prefixed));
+        }
+    }
+
+    private void deliver(JavaPlugin plugin, String moduleKey, String key, CommandSender sender, NormalizedMessage message) {
+        MessageThrottle.Rule rule = throttleRule(plugin, moduleKey, key);
+        if (rule == null || messageThrottle.tryPass(rule, sanitizeKey(key), sender, message.component())) {
+            send(sender, message);
+        }
+    }
+
+    /**
+     * Send a rendered message. RCON only returns plain text and takes a string without parsing it, so it gets
+     * the cached plain string. Players, the console (whose logger renders the component's colours, hex
+     * included, as ANSI), command blocks and every other sender get the component.
+     */
+    private static void send(CommandSender recipient, NormalizedMessage message) {
+        if (recipient instanceof RemoteConsoleCommandSender) {
+            recipient.sendMessage(message.plain());
+        } else {
+            recipient.sendMessage(message.component());
+        }
+    }
+
+    private void deliverActionBar(JavaPlugin plugin, String moduleKey, String key, Player player, Component component) {
+        MessageThrottle.Rule rule = throttleRule(plugin, moduleKey, key);
+        if (rule == null) {
+            player.sendActionBar(component);
+        } else {
+            messageThrottle.sendActionBar(rule, sanitizeKey(key), player, component);
+        }
+    }
+
+    private MessageThrottle.Rule throttleRule(JavaPlugin plugin, String moduleKey, String key) {
+        if (messageThrottle.isEmpty()) {
+            return null;
+        }
+        return messageThrottle.rule(moduleKey != null ? moduleKey : plugin.getName() + "/" + sanitizeKey(key));
+    }
+
+    private static void sendAll(Collection<? extends CommandSender> recipients, NormalizedMessage message) {
+        for (CommandSender recipient : recipients) {
+            send(recipient, message);
         }
+    }
+
+    private static NormalizedMessage render(PluginMessages messages, MessageEntry entry, Function<String, String> placeholders,
+                                            boolean prefixed) {
+        return prefixed ? entry.renderPrefixed(messages, placeholders) : entry.render(placeholders);
+    }
+
+    private static NormalizedMessage finish(PluginMessages messages, NormalizedMessage message, boolean prefixed) {
+        return prefixed ? applyPrefix(messages, message) : message;
+    }
+
+    private static List<Player> onlinePlayers(Predicate<? super Player> filter) {
+        List<Player> players = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (filter == null || filter.test(player)) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    private NormalizedMessage resolveMessage(MessageKey key, Locale locale, Function<String, String> placeholders, boolean prefixed) {
+        if (locale != null && key.isPluginKey() && localesOf(key.plugin()) != null) {
+            return resolveMessage(key.plugin(), locale, key.key(), placeholders, prefixed);
+        }
+        MessageKey.Binding binding = key.binding();
+        if (binding == null) {
+            return errorMessage(key.notLoadedReason());
+        }
+        MessageEntry entry = binding.single();
+        if (entry == null) {
+            return finish(binding.snapshot, errorMessage(key.notFoundReason()), prefixed);
+        }
+        return render(binding.snapshot, entry, placeholders, prefixed);
+    }
 
-        return rawList.stream()
-                .map(raw -> normalise(raw, placeholders))
+    private List<NormalizedMessage> resolveMessageList(MessageKey key, Locale locale, Function<String, String> placeholders, boolean prefixed) {
+        if (locale != null && key.isPluginKey() && localesOf(key.plugin()) != null) {
+            return resolveMessageList(key.plugin(), locale, key.key(), placeholders, prefixed);
+        }
+        MessageKey.Binding binding = key.binding();
+        if (binding == null) {
+            return List.of(errorMessage(key.notLoadedReason()));
+        }
+        List<MessageEntry> entries = binding.multi();
+        if (entries == null) {
+            return List.of(finish(binding.snapshot, errorMessage(key.notFoundReason()), prefixed));
+        }
+        return entries.stream()
+                .map(entry -> render(binding.snapshot, entry, placeholders, prefixed))
                 .toList();
     }
 
+    private <T extends CommandSender> void broadcast(MessageKey key, Placeholders placeholders, Collection<T> recipients,
+                                                     Function<? super T, Placeholders> perViewer, boolean prefixed) {
+        if (recipients == null || recipients.isEmpty()) {
+            return;
+        }
+        if (key.isPluginKey() && localesOf(key.plugin()) != null) {
+            broadcast(key.plugin(), key.key(), placeholders, recipients, perViewer, prefixed);
+            return;
+        }
+
+        MessageKey.Binding binding = key.binding();
+        MessageEntry entry = binding == null ? null : binding.single();
+        if (entry == null) {
+            sendAll(recipients, resolveMessage(key, null, placeholders, prefixed));
+            return;
+        }
+        broadcast(binding.snapshot, entry, placeholders, recipients, perViewer, prefixed);
+    }
+
     private String sanitizeKey(String key) {
         if (key == null) {
             return "";
@@ -528,40 +2128,90 @@ public class MessageManager {
         return key;
     }
 
-    private NormalizedMessage normalise(String raw, Map<String, String> placeholders) {
-        String resolved = replacePlaceholders(raw, placeholders);
-        Component component = ColorHelper.toComponent(resolved);
-        return new NormalizedMessage(component, ColorHelper.toLegacy(component), ColorHelper.toPlain(component));
+    /**
+     * Compile a raw message at load time. Supports both {placeholder} and %placeholder% formats for
+     * backward compatibility; parse problems are reported here instead of on the first send.
+     */
+    private MessageEntry compileEntry(JavaPlugin plugin, String key, String raw, MessageReferences references) {
+        // Loaded messages live as long as the snapshot; share equal static trees between plugins and locales
+        CompiledText template = ColorHelper.compile(references.expand(key, raw)).interned();
+        if (template.parseError() != null) {
+            lib.logWarn(plugin, "Failed to parse message '" + key + "': " + template.parseError());
+        }
+        return new MessageEntry(raw, template);
     }
 
-    private NormalizedMessage errorMessage(String reason) {
-        Component component = ColorHelper.toComponent("<red>" + reason);
-        return new NormalizedMessage(component, ColorHelper.toLegacy(component), ColorHelper.toPlain(component));
+    /**
+     * Compile loaded message sources on top of an existing snapshot. {msg:key} references are expanded
+     * here; messages of the base snapshot are only recompiled if they depend on a key that was loaded.
+     */
+    private PluginMessages compileMessages(JavaPlugin plugin, String prefix, PluginMessages base, PluginMessages fallback,
+                                           Map<String, String> singleSources, Map<String, List<String>> listSources) {
+        return compileMessages(plugin, prefix, base, fallback, singleSources, listSources,
+                base.dependentsOf(singleSources.keySet()));
     }
 
-    private NormalizedMessage applyPrefix(JavaPlugin plugin, NormalizedMessage message) {
-        return applyPrefix(pluginMessages.get(plugin), message);
+    /**
+     * Compile loaded message sources on top of an existing snapshot, recompiling the given base messages.
+     */
+    private PluginMessages compileMessages(JavaPlugin plugin, String prefix, PluginMessages base, PluginMessages fallback,
+                                           Map<String, String> singleSources, Map<String, List<String>> listSources,
+                                           Set<String> stale) {
+        MessageReferences references = new MessageReferences(key -> {
+            String raw = singleSources.get(key);
+            if (raw != null) {
+                return raw;
+            }
+            MessageEntry entry = base.singleMessages.get(key);
+            if (entry == null && fallback != null) {
+                entry = fallback.singleMessages.get(key);
+            }
+            return entry == null ? null : entry.raw;
+        }, warning -> lib.logWarn(plugin, warning));
+
+        Map<String, MessageEntry> singleMessages = base.singleMessages.toMap();
+        Map<String, List<MessageEntry>> multiMessages = base.multiMessages.toMap();
+
+        singleSources.forEach((key, raw) -> singleMessages.put(key, compileEntry(plugin, key, raw, references)));
+        listSources.forEach((key, raws) -> multiMessages.put(key, raws.stream()
+                .map(raw -> compileEntry(plugin, key, raw, references))
+                .toList()));
+
+        for (String key : stale) {
+            if (singleSources.containsKey(key) || listSources.containsKey(key)) {
+                continue;
+            }
+            MessageEntry entry = singleMessages.get(key);
+            if (entry != null) {
+                singleMessages.put(key, compileEntry(plugin, key, entry.raw, references));
+            }
+            List<MessageEntry> entries = multiMessages.get(key);
+            if (entries != null) {
+                multiMessages.put(key, entries.stream()
+                        .map(item -> compileEntry(plugin, key, item.raw, references))
+                        .toList());
+            }
+        }
+
+        return new PluginMessages(prefix, singleMessages, multiMessages);
     }
-    
-    private NormalizedMessage applyModulePrefix(String moduleKey, NormalizedMessage message) {
-        return applyPrefix(moduleMessages.get(moduleKey), message);
+
+    private NormalizedMessage errorMessage(String reason) {
+        return new NormalizedMessage(ColorHelper.toComponent("<red>" + reason));
     }
 
-    private NormalizedMessage applyPrefix(PluginMessages messages, NormalizedMessage message) {
+    private static NormalizedMessage applyPrefix(PluginMessages messages, NormalizedMessage message) {
         if (messages == null || message == null) {
             return message;
         }
         if (messages.legacyPrefix.isEmpty()) {
             return message;
         }
-        if (!messages.plainPrefix.isEmpty() && message.plain().startsWith(messages.plainPrefix)) {
+        if (!messages.plainPrefix.isEmpty() && ColorHelper.startsWithPlain(message.component(), messages.plainPrefix)) {
             return message;
         }
 
-        Component component = messages.prefixComponent.append(message.component());
-        String legacy = messages.legacyPrefix + message.legacy();
-        String plain = messages.plainPrefix + message.plain();
-        return new NormalizedMessage(component, legacy, plain);
+        return NormalizedMessage.prefixed(messages, message);
     }
 
     private static Duration ticksToDuration(int ticks) {
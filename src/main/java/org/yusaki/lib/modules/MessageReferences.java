@@ -0,0 +1,207 @@
+package org.yusaki.lib.modules;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Expands {@code {msg:key}} and {@code <msg:key>} references to other single-line messages while a pool is
+ * loaded, so the send path never follows references.
+ *
+ * <p>References are expanded recursively. Each referenced key is expanded once per load and reused, and a
+ * reference that would loop back to a key currently being expanded is reported and left as written.
+ * Unknown keys are reported and left as written as well.</p>
+ */
+final class MessageReferences {
+    private static final String MARKER = "msg:";
+
+    private final Function<String, String> sources;
+    private final Consumer<String> warnings;
+    private final Map<String, String> expanded = new HashMap<>();
+    private final Deque<String> expanding = new ArrayDeque<>();
+
+    /**
+     * @param sources returns the unexpanded text of a single-line message, or {@code null} if unknown
+     * @param warnings receives problems found while expanding
+     */
+    MessageReferences(Function<String, String> sources, Consumer<String> warnings) {
+        this.sources = sources;
+        this.warnings = warnings;
+    }
+
+    /**
+     * @return keys referenced directly by the text, in order of appearance
+     */
+    static Set<String> referencedKeys(String raw) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (raw == null || !raw.contains(MARKER)) {
+            return keys;
+        }
+        for (int i = 0; i < raw.length(); i++) {
+            int end = referenceEnd(raw, i);
+            if (end >= 0) {
+                keys.add(raw.substring(i + 1 + MARKER.length(), end));
+                i = end;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Record the references of one message in a reverse reference graph.
+     *
+     * @param dependents referenced key -> keys whose text references it directly
+     * @param key the message the text belongs to
+     * @param raw unexpanded text
+     */
+    static void addDependents(Map<String, Set<String>> dependents, String key, String raw) {
+        for (String reference : referencedKeys(raw)) {
+            dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * @param dependents reverse reference graph built with {@link #addDependents(Map, String, String)}
+     * @param keys keys whose text changed
+     * @return every key that references one of {@code keys}, directly or through other messages
+     */
+    static Set<String> dependentsOf(Map<String, Set<String>> dependents, Collection<String> keys) {
+        Set<String> result = new LinkedHashSet<>();
+        if (dependents.isEmpty()) {
+            return result;
+        }
+        Deque<String> pending = new ArrayDeque<>(keys);
+        while (!pending.isEmpty()) {
+            for (String dependent : dependents.getOrDefault(pending.poll(), Set.of())) {
+                if (result.add(dependent)) {
+                    pending.add(dependent);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keys whose expansion read text from outside their own pool, e.g. a locale bundle falling back to the
+     * default messages. They have to be expanded again when that text is replaced.
+     *
+     * @param dependents reverse reference graph of the pool
+     * @param defined tells whether the pool itself has a single-line message with the given key
+     * @return every key that references a key the pool does not define, directly or through other messages
+     */
+    static Set<String> fallbackDependents(Map<String, Set<String>> dependents, Predicate<String> defined) {
+        Set<String> external = new HashSet<>();
+        for (String reference : dependents.keySet()) {
+            if (!defined.test(reference)) {
+                external.add(reference);
+            }
+        }
+        return dependentsOf(dependents, external);
+    }
+
+    /**
+     * Expand every reference in the text of a message.
+     *
+     * @param key the message the text belongs to, used for cycle detection
+     * @param raw unexpanded text
+     * @return text with references replaced
+     */
+    String expand(String key, String raw) {
+        if (raw == null || !raw.contains(MARKER)) {
+            return raw;
+        }
+        expanding.push(key);
+        try {
+            return substitute(raw);
+        } finally {
+            expanding.pop();
+        }
+    }
+
+    private String substitute(String raw) {
+        StringBuilder builder = null;
+        int copied = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            int end = referenceEnd(raw, i);
+            if (end < 0) {
+                continue;
+            }
+            String value = resolve(raw.substring(i + 1 + MARKER.length(), end));
+            if (value != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(raw.length() + 32);
+                }
+                builder.append(raw, copied, i).append(value);
+                copied = end + 1;
+            }
+            i = end;
+        }
+        if (builder == null) {
+            return raw;
+        }
+        return builder.append(raw, copied, raw.length()).toString();
+    }
+
+    private String resolve(String key) {
+        String cached = expanded.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (expanding.contains(key)) {
+            warnings.accept("Circular message reference: " + String.join(" -> ", chain(key)));
+            return null;
+        }
+        String raw = sources.apply(key);
+        if (raw == null) {
+            warnings.accept("Unknown message reference '" + key + "' in '" + expanding.peek() + "'");
+            return null;
+        }
+        String value = expand(key, raw);
+        expanded.put(key, value);
+        return value;
+    }
+
+    private Iterable<String> chain(String key) {
+        Deque<String> chain = new ArrayDeque<>();
+        expanding.descendingIterator().forEachRemaining(chain::add);
+        chain.add(key);
+        return chain;
+    }
+
+    /**
+     * @return index of the closing character of a reference starting at {@code index}, or {@code -1}
+     */
+    private static int referenceEnd(String text, int index) {
+        char open = text.charAt(index);
+        char close;
+        if (open == '{') {
+            close = '}';
+        } else if (open == '<') {
+            close = '>';
+        } else {
+            return -1;
+        }
+        if (!text.startsWith(MARKER, index + 1)) {
+            return -1;
+        }
+        int start = index + 1 + MARKER.length();
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == close) {
+                return i > start ? i : -1;
+            }
+            if (Character.isWhitespace(c) || c == '{' || c == '}' || c == '<' || c == '>') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+package org.yusaki.lib.modules;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable string-keyed table using open addressing with linear probing.
+ *
+ * <p>Keys and values live in two parallel arrays sized to at most half full, so a lookup is a hash, an
+ * array read and usually a single {@code equals} call, without entry objects or locking. Instances are
+ * built once and never modified, which makes them safe to share between threads once published.</p>
+ *
+ * @param <V> value type
+ */
+final class MessageTable<V> {
+    private static final MessageTable<?> EMPTY = new MessageTable<>(new String[1], new Object[1], 0);
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private MessageTable(String[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> MessageTable<V> empty() {
+        return (MessageTable<V>) EMPTY;
+    }
+
+    /**
+     * Copy the entries of a map; {@code null} keys and values are skipped.
+     */
+    static <V> MessageTable<V> of(Map<String, ? extends V> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return empty();
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1;
+        String[] keys = new String[capacity];
+        Object[] values = new Object[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+        for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            V value = entry.getValue();
+            if (key == null || value == null) {
+                continue;
+            }
+            int index = spread(key.hashCode()) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+        return new MessageTable<>(keys, values, size);
+    }
+
+    /**
+     * @return the value for the key, or {@code null} if absent
+     */
+    V get(String key) {
+        return valueAt(indexOf(key));
+    }
+
+    /**
+     * @return the slot holding the key, or {@code -1} if absent; stable for the lifetime of this table
+     */
+    int indexOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        int index = spread(key.hashCode()) & mask;
+        String candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate == key || candidate.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param index slot returned by {@link #indexOf(String)}
+     * @return the value in the slot, or {@code null} for {@code -1}
+     */
+    @SuppressWarnings("unchecked")
+    V valueAt(int index) {
+        return index < 0 ? null : (V) values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<String, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return a mutable copy of the entries
+     */
+    Map<String, V> toMap() {
+        Map<String, V> map = new LinkedHashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,175 @@
+package org.yusaki.lib.modules;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.yusaki.lib.YskLib;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in suppression of repeated messages per recipient.
+ *
+ * <p>A rule covers either one message key or every key of a module. While a rule applies, sending a player
+ * the same rendered message again within the rule's window is skipped. Action bars covered by a rule are
+ * additionally merged: they are queued on the player's entity scheduler and only the latest one queued
+ * during a tick is sent. Non-player recipients are never throttled.</p>
+ */
+final class MessageThrottle {
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final long STALE_FLUSH_NANOS = 20 * TICK_NANOS;
+    private static final int PRUNE_THRESHOLD = 512;
+
+    private final YskLib lib;
+    private final Map<String, Rule> rules = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, Sent>> recipients = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingActionBar> pendingActionBars = new ConcurrentHashMap<>();
+    private volatile long longestWindowNanos;
+    private volatile long lastPrune;
+
+    MessageThrottle(YskLib lib) {
+        this.lib = lib;
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * Install or remove a rule.
+     *
+     * @param id rule identifier
+     * @param windowTicks suppression window; {@code 0} or less removes the rule
+     */
+    void configure(String id, int windowTicks) {
+        if (windowTicks <= 0) {
+            rules.remove(id);
+        } else {
+            rules.compute(id, (key, existing) -> existing == null
+                    ? new Rule(id, windowTicks * TICK_NANOS)
+                    : existing.withWindow(windowTicks * TICK_NANOS));
+        }
+        longestWindowNanos = rules.values().stream().mapToLong(rule -> rule.windowNanos).max().orElse(0L);
+    }
+
+    Rule rule(String id) {
+        return rules.get(id);
+    }
+
+    MessageManager.CoalescingStats stats(String id) {
+        Rule rule = rules.get(id);
+        if (rule == null) {
+            return new MessageManager.CoalescingStats(0, 0, 0);
+        }
+        return new MessageManager.CoalescingStats(rule.sent.sum(), rule.suppressed.sum(), rule.merged.sum());
+    }
+
+    /**
+     * Record a chat message about to be sent.
+     *
+     * @return {@code false} if the recipient already got the same message within the rule's window
+     */
+    boolean tryPass(Rule rule, String messageKey, CommandSender recipient, Component component) {
+        return tryPass(rule, "chat:" + messageKey, recipient, component, System.nanoTime());
+    }
+
+    /**
+     * Queue an action bar; only the latest one queued for a player during a tick is sent.
+     */
+    void sendActionBar(Rule rule, String messageKey, Player player, Component component) {
+        UUID id = player.getUniqueId();
+        long now = System.nanoTime();
+        boolean[] schedule = new boolean[1];
+        pendingActionBars.compute(id, (key, previous) -> {
+            if (previous != null && now - previous.queuedAt < STALE_FLUSH_NANOS) {
+                // A flush is already scheduled and will pick up the newer action bar
+                previous.rule.merged.increment();
+                return new PendingActionBar(rule, messageKey, component, previous.queuedAt);
+            }
+            schedule[0] = true;
+            return new PendingActionBar(rule, messageKey, component, now);
+        });
+        if (!schedule[0]) {
+            return;
+        }
+
+        lib.getFoliaLib().getScheduler().runAtEntity(player, (task) -> {
+            PendingActionBar pending = pendingActionBars.remove(id);
+            if (pending != null && tryPass(pending.rule, "bar:" + pending.messageKey, player, pending.component, System.nanoTime())) {
+                player.sendActionBar(pending.component);
+            }
+        });
+    }
+
+    private boolean tryPass(Rule rule, String channelKey, CommandSender recipient, Component component, long now) {
+        if (!(recipient instanceof Player player)) {
+            rule.sent.increment();
+            return true;
+        }
+
+        String stateKey = rule.id + '\u0000' + channelKey;
+        Map<String, Sent> state = recipients.computeIfAbsent(player.getUniqueId(), key -> new ConcurrentHashMap<>());
+        Sent last = state.get(stateKey);
+        if (last != null && now - last.at < rule.windowNanos
+                && (last.component == component || last.component.equals(component))) {
+            rule.suppressed.increment();
+            return false;
+        }
+
+        state.put(stateKey, new Sent(component, now));
+        rule.sent.increment();
+        prune(now);
+        return true;
+    }
+
+    /**
+     * Forget what was sent to recipients once it can no longer suppress anything.
+     */
+    private void prune(long now) {
+        if (recipients.size() < PRUNE_THRESHOLD || now - lastPrune < STALE_FLUSH_NANOS) {
+            return;
+        }
+        lastPrune = now;
+        long window = longestWindowNanos;
+        recipients.values().removeIf(state -> {
+            state.values().removeIf(sent -> now - sent.at >= window);
+            return state.isEmpty();
+        });
+    }
+
+    static final class Rule {
+        final String id;
+        final long windowNanos;
+        final LongAdder sent;
+        final LongAdder suppressed;
+        final LongAdder merged;
+
+        Rule(String id, long windowNanos) {
+            this(id, windowNanos, new LongAdder(), new LongAdder(), new LongAdder());
+        }
+
+        private Rule(String id, long windowNanos, LongAdder sent, LongAdder suppressed, LongAdder merged) {
+            this.id = id;
+            this.windowNanos = windowNanos;
+            this.sent = sent;
+            this.suppressed = suppressed;
+            this.merged = merged;
+        }
+
+        /**
+         * @return a rule with a new window that keeps counting into the same counters
+         */
+        Rule withWindow(long windowNanos) {
+            return new Rule(id, windowNanos, sent, suppressed, merged);
+        }
+    }
+
+    private record Sent(Component component, long at) {
+    }
+
+    private record PendingActionBar(Rule rule, String messageKey, Component component, long queuedAt) {
+    }
+}
@@ -0,0 +1,253 @@
+package org.yusaki.lib.modules;
+
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Named placeholder providers shared by every message, e.g. {@code {online}} or {@code {tps}}.
+ *
+ * <p>Each provider has a scope and a refresh interval in ticks. Its value is computed at most once per
+ * interval for each scope instance (the server, a world or a player) and reused by every render in between,
+ * so a broadcast to hundreds of players formats a global value once. Ticks are measured as 50 ms slices of
+ * wall-clock time, which keeps the behaviour identical on Folia where there is no single server tick.</p>
+ *
+ * <p>Explicit placeholder values always win over providers. Providers may be called from any region
+ * thread and must therefore be thread-safe.</p>
+ */
+public final class PlaceholderRegistry {
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final int PRUNE_THRESHOLD = 256;
+
+    /**
+     * What a provider's value depends on.
+     */
+    public enum Scope {
+        GLOBAL,
+        WORLD,
+        PLAYER
+    }
+
+    private final Map<String, Provider> providers = new ConcurrentHashMap<>();
+    private volatile boolean hasViewerScoped;
+
+    /**
+     * Register a server-wide placeholder.
+     *
+     * @param name placeholder name without braces or percent signs
+     * @param refreshTicks ticks a computed value is reused for; values below 1 mean every tick
+     * @param supplier computes the value
+     */
+    public void registerGlobal(String name, int refreshTicks, Supplier<String> supplier) {
+        register(new Provider(name, Scope.GLOBAL, refreshTicks, viewer -> supplier.get()));
+    }
+
+    /**
+     * Register a placeholder whose value depends on the viewer's world.
+     *
+     * @param name placeholder name without braces or percent signs
+     * @param refreshTicks ticks a computed value is reused for; values below 1 mean every tick
+     * @param function computes the value for a world
+     */
+    public void registerWorld(String name, int refreshTicks, Function<? super World, String> function) {
+        register(new Provider(name, Scope.WORLD, refreshTicks, viewer -> function.apply((World) viewer)));
+    }
+
+    /**
+     * Register a placeholder whose value depends on the viewing player.
+     *
+     * @param name placeholder name without braces or percent signs
+     * @param refreshTicks ticks a computed value is reused for; values below 1 mean every tick
+     * @param function computes the value for a player
+     */
+    public void registerPlayer(String name, int refreshTicks, Function<? super Player, String> function) {
+        register(new Provider(name, Scope.PLAYER, refreshTicks, viewer -> function.apply((Player) viewer)));
+    }
+
+    /**
+     * Remove a provider.
+     *
+     * @return {@code true} if a provider was registered under the name
+     */
+    public boolean unregister(String name) {
+        boolean removed = providers.remove(name) != null;
+        refreshFlags();
+        return removed;
+    }
+
+    /**
+     * Remove every provider.
+     */
+    public void clear() {
+        providers.clear();
+        refreshFlags();
+    }
+
+    public boolean isEmpty() {
+        return providers.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if a provider is registered under the name
+     */
+    public boolean isRegistered(String name) {
+        return providers.containsKey(name);
+    }
+
+    /**
+     * Look up a provider value for a viewer.
+     *
+     * @param name placeholder name
+     * @param viewer the recipient, or {@code null} to resolve global providers only
+     * @return the value, or {@code null} if no provider applies
+     */
+    public String resolve(String name, CommandSender viewer) {
+        Provider provider = providers.get(name);
+        return provider == null ? null : provider.value(viewer, currentTick());
+    }
+
+    /**
+     * Combine explicit values with the global providers.
+     */
+    Function<String, String> shared(Function<String, String> explicit) {
+        if (providers.isEmpty()) {
+            return explicit;
+        }
+        long tick = currentTick();
+        return name -> {
+            String value = explicit == null ? null : explicit.apply(name);
+            if (value != null) {
+                return value;
+            }
+            Provider provider = providers.get(name);
+            return provider == null || provider.scope != Scope.GLOBAL ? null : provider.value(null, tick);
+        };
+    }
+
+    /**
+     * Combine explicit values with every provider that applies to the viewer.
+     */
+    Function<String, String> forViewer(Function<String, String> explicit, CommandSender viewer) {
+        if (providers.isEmpty()) {
+            return explicit;
+        }
+        long tick = currentTick();
+        return name -> {
+            String value = explicit == null ? null : explicit.apply(name);
+            if (value != null) {
+                return value;
+            }
+            Provider provider = providers.get(name);
+            return provider == null ? null : provider.value(viewer, tick);
+        };
+    }
+
+    /**
+     * @return {@code true} if any world or player scoped provider is registered
+     */
+    boolean hasViewerScoped() {
+        return hasViewerScoped;
+    }
+
+    /**
+     * @return {@code true} if the name belongs to a world or player scoped provider
+     */
+    boolean isViewerScoped(String name) {
+        Provider provider = providers.get(name);
+        return provider != null && provider.scope != Scope.GLOBAL;
+    }
+
+    private void register(Provider provider) {
+        if (provider.name == null || provider.name.isEmpty()) {
+            throw new IllegalArgumentException("Placeholder name must not be empty");
+        }
+        providers.put(provider.name, provider);
+        refreshFlags();
+    }
+
+    private void refreshFlags() {
+        hasViewerScoped = providers.values().stream().anyMatch(provider -> provider.scope != Scope.GLOBAL);
+    }
+
+    private static long currentTick() {
+        return System.nanoTime() / TICK_NANOS;
+    }
+
+    private static final class Provider {
+        final String name;
+        final Scope scope;
+        final int refreshTicks;
+        final Function<Object, String> function;
+        final Slot global = new Slot();
+        final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+
+        Provider(String name, Scope scope, int refreshTicks, Function<Object, String> function) {
+            this.name = name;
+            this.scope = scope;
+            this.refreshTicks = Math.max(1, refreshTicks);
+            this.function = function;
+        }
+
+        String value(CommandSender viewer, long tick) {
+            if (scope == Scope.GLOBAL) {
+                return global.get(this, null, tick);
+            }
+            if (!(viewer instanceof Player player)) {
+                return null;
+            }
+            if (scope == Scope.WORLD) {
+                World world = player.getWorld();
+                return slot(world.getUID(), tick).get(this, world, tick);
+            }
+            return slot(player.getUniqueId(), tick).get(this, player, tick);
+        }
+
+        private Slot slot(UUID id, long tick) {
+            Slot slot = slots.get(id);
+            if (slot != null) {
+                return slot;
+            }
+            if (slots.size() >= PRUNE_THRESHOLD) {
+                // Drop values of players and worlds that have not been rendered for a while
+                slots.values().removeIf(candidate -> candidate.isExpired(tick));
+            }
+            return slots.computeIfAbsent(id, key -> new Slot());
+        }
+    }
+
+    /**
+     * Memoised value of one provider for one scope instance.
+     */
+    private static final class Slot {
+        private volatile Cached cached;
+
+        String get(Provider provider, Object target, long tick) {
+            Cached current = cached;
+            if (current != null && tick < current.expiresAt) {
+                return current.value;
+            }
+            synchronized (this) {
+                current = cached;
+                if (current == null || tick >= current.expiresAt) {
+                    current = new Cached(provider.function.apply(target), tick + provider.refreshTicks);
+                    cached = current;
+                }
+                return current.value;
+            }
+        }
+
+        boolean isExpired(long tick) {
+            Cached current = cached;
+            return current == null || tick >= current.expiresAt;
+        }
+    }
+
+    private record Cached(String value, long expiresAt) {
+    }
+}
@@ -1,13 +1,30 @@
 package org.yusaki.lib.text;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Utility responsible for normalizing colour codes across legacy ampersand formats and MiniMessage tags.
@@ -16,18 +33,73 @@ import java.util.Map;
  * with MiniMessage tags (e.g. {@code <bold>}, {@code <rainbow>}). The helper converts legacy tokens into
  * MiniMessage equivalents before parsing so mixed strings are handled consistently. Callers may retrieve
  * either an Adventure {@link Component} or a legacy serialised string using section sign codes.</p>
+ *
+ * <p>Parsing can optionally be memoised through {@link #enableCache(int)}. Components are immutable, so
+ * cached results are shared freely between threads.</p>
+ *
+ * <p>Inputs without any MiniMessage tag are built directly from their legacy codes, skipping the MiniMessage
+ * tokenizer. The fast path reproduces the exact tree MiniMessage would build for the converted tags. Inputs
+ * without any formatting character at all become a single text component, and their legacy and plain forms
+ * are the input itself.</p>
  */
 public final class ColorHelper {
     private static final MiniMessage MINI_MESSAGE = MiniMessage.builder()
             .tags(TagResolver.standard())
             .build();
 
+    private static final String HOLE_TAG = "ysklib_hole";
+
+    private static final MiniMessage TEMPLATE_MINI_MESSAGE = MiniMessage.builder()
+            .tags(TagResolver.resolver(TagResolver.standard(), TagResolver.resolver(HOLE_TAG, (args, context) ->
+                    Tag.selfClosingInserting(CompiledText.marker(Integer.parseInt(args.popOr("hole index").value()))))))
+            .build();
+
     private static final LegacyComponentSerializer LEGACY_SECTION = LegacyComponentSerializer.legacySection();
+    // Section-strings as Bukkit writes them, including the &x&r&r&g&g&b&b hex form
+    private static final LegacyComponentSerializer LEGACY_SECTION_HEX = LegacyComponentSerializer.builder()
+            .character(LegacyComponentSerializer.SECTION_CHAR)
+            .hexColors()
+            .useUnusualXRepeatedCharacterHexFormat()
+            .build();
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
     private static final PlainTextComponentSerializer PLAIN_SERIALIZER = PlainTextComponentSerializer.plainText();
 
     private static final Map<Character, String> LEGACY_TO_MINI;
 
+    private static final Style[] LEGACY_STYLES = new Style[128];
+
+    private static final int BATCH_CHUNK_SIZE = 256;
+
+    // MiniMessage tags that only style text, so stripping them leaves the plain text unchanged
+    private static final Set<String> STYLE_TAGS;
+    private static final Set<String> DECORATION_TAGS = Set.of(
+            "bold", "b", "italic", "i", "em", "underlined", "u", "strikethrough", "st", "obfuscated", "obf");
+
+    private static volatile ParseCache parseCache;
+
     static {
+        LEGACY_STYLES['0'] = Style.style(NamedTextColor.BLACK);
+        LEGACY_STYLES['1'] = Style.style(NamedTextColor.DARK_BLUE);
+        LEGACY_STYLES['2'] = Style.style(NamedTextColor.DARK_GREEN);
+        LEGACY_STYLES['3'] = Style.style(NamedTextColor.DARK_AQUA);
+        LEGACY_STYLES['4'] = Style.style(NamedTextColor.DARK_RED);
+        LEGACY_STYLES['5'] = Style.style(NamedTextColor.DARK_PURPLE);
+        LEGACY_STYLES['6'] = Style.style(NamedTextColor.GOLD);
+        LEGACY_STYLES['7'] = Style.style(NamedTextColor.GRAY);
+        LEGACY_STYLES['8'] = Style.style(NamedTextColor.DARK_GRAY);
+        LEGACY_STYLES['9'] = Style.style(NamedTextColor.BLUE);
+        LEGACY_STYLES['a'] = Style.style(NamedTextColor.GREEN);
+        LEGACY_STYLES['b'] = Style.style(NamedTextColor.AQUA);
+        LEGACY_STYLES['c'] = Style.style(NamedTextColor.RED);
+        LEGACY_STYLES['d'] = Style.style(NamedTextColor.LIGHT_PURPLE);
+        LEGACY_STYLES['e'] = Style.style(NamedTextColor.YELLOW);
+        LEGACY_STYLES['f'] = Style.style(NamedTextColor.WHITE);
+        LEGACY_STYLES['k'] = Style.style(TextDecoration.OBFUSCATED);
+        LEGACY_STYLES['l'] = Style.style(TextDecoration.BOLD);
+        LEGACY_STYLES['m'] = Style.style(TextDecoration.STRIKETHROUGH);
+        LEGACY_STYLES['n'] = Style.style(TextDecoration.UNDERLINED);
+        LEGACY_STYLES['o'] = Style.style(TextDecoration.ITALIC);
+
         LEGACY_TO_MINI = new HashMap<>();
         LEGACY_TO_MINI.put('0', "<black>");
         LEGACY_TO_MINI.put('1', "<dark_blue>");
@@ -51,6 +123,15 @@ public final class ColorHelper {
         LEGACY_TO_MINI.put('n', "<underlined>");
         LEGACY_TO_MINI.put('o', "<italic>");
         LEGACY_TO_MINI.put('r', "<reset>");
+
+        Set<String> styleTags = new HashSet<>(NamedTextColor.NAMES.keys());
+        styleTags.add("grey");
+        styleTags.add("dark_grey");
+        styleTags.add("reset");
+        styleTags.add("rainbow");
+        styleTags.add("gradient");
+        styleTags.addAll(DECORATION_TAGS);
+        STYLE_TAGS = Set.copyOf(styleTags);
     }
 
     private ColorHelper() {
@@ -66,15 +147,179 @@ public final class ColorHelper {
         if (input == null || input.isEmpty()) {
             return Component.empty();
         }
+        if (isPlainText(input)) {
+            return Component.text(input);
+        }
+
+        ParseCache cache = parseCache;
+        if (cache != null) {
+            return cache.get(input, ColorHelper::parse);
+        }
+        return parse(input);
+    }
+
+    /**
+     * Normalise a batch of texts into components. Identical inputs are parsed once.
+     *
+     * @param inputs texts containing legacy codes and/or MiniMessage tags; {@code null} elements are allowed
+     * @return unmodifiable list of components in input order
+     */
+    public static List<Component> toComponents(List<String> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            return List.of();
+        }
+        Batch batch = new Batch(inputs);
+        batch.parse(0, batch.distinct.size());
+        return batch.results();
+    }
+
+    /**
+     * Normalise a batch of texts into components on the common fork-join pool, see
+     * {@link #toComponentsAsync(List, Executor)}.
+     */
+    public static CompletableFuture<List<Component>> toComponentsAsync(List<String> inputs) {
+        return toComponentsAsync(inputs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Normalise a batch of texts into components off the calling thread. Identical inputs are parsed once,
+     * and batches are split into chunks of {@value #BATCH_CHUNK_SIZE} distinct inputs that each run on the
+     * executor, so the executor alone decides how many threads parse. The future completes on a worker
+     * thread; switch back to the scheduler before touching the world with the results.
+     *
+     * @param inputs texts containing legacy codes and/or MiniMessage tags; read before returning
+     * @param executor runs the chunks
+     * @return future of an unmodifiable list of components in input order
+     */
+    public static CompletableFuture<List<Component>> toComponentsAsync(List<String> inputs, Executor executor) {
+        if (inputs == null || inputs.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Batch batch = new Batch(inputs);
+        int count = batch.distinct.size();
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(count + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int from = chunk * BATCH_CHUNK_SIZE;
+            int to = Math.min(count, from + BATCH_CHUNK_SIZE);
+            chunks[chunk] = CompletableFuture.runAsync(() -> batch.parse(from, to), executor);
+        }
+        return CompletableFuture.allOf(chunks).thenApply(done -> batch.results());
+    }
+
+    /**
+     * Pre-parse the supplied text into a reusable template with {@code {name}} and {@code %name%} holes.
+     *
+     * @param input text containing legacy codes, MiniMessage tags and placeholders
+     * @return compiled template (never {@code null})
+     */
+    public static CompiledText compile(String input) {
+        PlaceholderTemplate placeholders = PlaceholderTemplate.parse(input);
+        String source = placeholders.source();
+        int holes = placeholders.size();
+
+        if (holes == 0) {
+            if (source.isEmpty()) {
+                return new CompiledText(placeholders, Component.empty(), null, null);
+            }
+            try {
+                return new CompiledText(placeholders, parseStrict(source), null, null);
+            } catch (Exception ex) {
+                Component fallback = LegacyComponentSerializer.legacyAmpersand().deserialize(source);
+                return new CompiledText(placeholders, fallback, null, ex.getMessage());
+            }
+        }
+
+        StringBuilder marked = new StringBuilder(source.length() + 16 * holes);
+        for (int i = 0; i < holes; i++) {
+            int offset = placeholders.offset(i);
+            boolean afterAmpersand = offset > 0 && source.charAt(offset - 1) == '&';
+            boolean insideTag = source.lastIndexOf('<', offset) > source.lastIndexOf('>', offset);
+            if (afterAmpersand || insideTag) {
+                return new CompiledText(placeholders, null, null, null);
+            }
+            marked.append(placeholders.segment(i)).append('<').append(HOLE_TAG).append(':').append(i).append('>');
+        }
+        marked.append(placeholders.segment(holes));
 
-        String preprocessed = convertLegacyCodes(input);
         try {
-            return MINI_MESSAGE.deserialize(preprocessed);
+            Component template = TEMPLATE_MINI_MESSAGE.deserialize(convertLegacyCodes(marked.toString()));
+            CompiledText.Plan plan = CompiledText.Plan.of(template);
+            if (plan == null) {
+                return new CompiledText(placeholders, null, null, null);
+            }
+            return new CompiledText(placeholders, template, plan, null);
+        } catch (Exception ex) {
+            return new CompiledText(placeholders, null, null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Enable the shared parse cache used by {@link #toComponent(String)}, replacing any existing cache.
+     *
+     * @param maximumSize maximum number of cached inputs
+     */
+    public static void enableCache(int maximumSize) {
+        parseCache = new ParseCache(maximumSize);
+    }
+
+    /**
+     * Disable the shared parse cache and release its entries.
+     */
+    public static void disableCache() {
+        ParseCache cache = parseCache;
+        parseCache = null;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Drop all cached parse results while keeping the cache enabled.
+     */
+    public static void clearCache() {
+        ParseCache cache = parseCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Snapshot the parse cache counters.
+     *
+     * @return current statistics, or {@code null} if the cache is disabled
+     */
+    public static CacheStats cacheStats() {
+        ParseCache cache = parseCache;
+        return cache == null ? null : cache.stats();
+    }
+
+    private static Component parse(String input) {
+        try {
+            return parseStrict(input);
         } catch (Exception ex) {
             return LegacyComponentSerializer.legacyAmpersand().deserialize(input);
         }
     }
 
+    private static Component parseStrict(String input) {
+        if (isPlainText(input)) {
+            return Component.text(input);
+        }
+        if (input.indexOf('<') < 0 && input.indexOf('\\') < 0) {
+            return parseLegacy(input);
+        }
+        return parseMiniMessage(input);
+    }
+
+    /**
+     * Parse through MiniMessage after converting legacy codes to tags; the reference {@link #parseLegacy(String)}
+     * has to agree with.
+     */
+    static Component parseMiniMessage(String input) {
+        return MINI_MESSAGE.deserialize(convertLegacyCodes(input));
+    }
+
     /**
      * Normalise the supplied text and serialise it back into a legacy section-string.
      *
@@ -82,9 +327,35 @@ public final class ColorHelper {
      * @return legacy serialised representation (never {@code null})
      */
     public static String toLegacy(String input) {
+        if (input != null && isPlainText(input)) {
+            return input;
+        }
         return toLegacy(toComponent(input));
     }
 
+    /**
+     * Build a component from legacy text the way Bukkit treats it: {@code &} codes are translated like
+     * {@code ChatColor.translateAlternateColorCodes('&', input)} and the section-string is deserialised. Unlike
+     * {@link #toComponent(String)}, MiniMessage tags and placeholders stay literal and a colour code resets the
+     * decorations before it.
+     *
+     * @param input text containing legacy ampersand codes
+     * @return parsed component (never {@code null})
+     */
+    public static Component fromLegacyCodes(String input) {
+        if (input == null || input.isEmpty()) {
+            return Component.empty();
+        }
+        char[] chars = input.toCharArray();
+        for (int i = 0; i < chars.length - 1; i++) {
+            if (chars[i] == '&' && LEGACY_CODES.indexOf(chars[i + 1]) > -1) {
+                chars[i] = LegacyComponentSerializer.SECTION_CHAR;
+                chars[i + 1] = Character.toLowerCase(chars[i + 1]);
+            }
+        }
+        return LEGACY_SECTION_HEX.deserialize(new String(chars));
+    }
+
     /**
      * Serialise the supplied component into a legacy section-string.
      *
@@ -118,9 +389,420 @@ public final class ColorHelper {
      * @return plain text representation (never {@code null})
      */
     public static String toPlain(String input) {
+        if (input == null) {
+            return "";
+        }
+        if (isPlainText(input)) {
+            return input;
+        }
+        StringBuilder builder = StringBuilders.acquire();
+        if (stripToPlain(input, builder)) {
+            return StringBuilders.release(builder);
+        }
+        StringBuilders.recycle(builder);
         return toPlain(toComponent(input));
     }
 
+    /**
+     * Normalise the supplied text and append its legacy section-string to a builder.
+     *
+     * @param target builder receiving the output
+     * @param input text containing legacy codes and/or MiniMessage tags
+     * @return {@code target}
+     */
+    public static StringBuilder appendLegacy(StringBuilder target, String input) {
+        if (input == null || input.isEmpty()) {
+            return target;
+        }
+        if (isPlainText(input)) {
+            return target.append(input);
+        }
+        return appendLegacy(target, toComponent(input));
+    }
+
+    /**
+     * Append the legacy section-string of a component to a builder. Adventure's legacy serializer has no
+     * streaming form, so this still serialises into an intermediate string.
+     *
+     * @param target builder receiving the output
+     * @param component component to serialise
+     * @return {@code target}
+     */
+    public static StringBuilder appendLegacy(StringBuilder target, Component component) {
+        if (component == null) {
+            return target;
+        }
+        return target.append(LEGACY_SECTION.serialize(component));
+    }
+
+    /**
+     * Append the legacy section-string of a component to any appendable.
+     *
+     * @param target receives the output
+     * @param component component to serialise
+     * @throws IOException if the appendable fails
+     */
+    public static void appendLegacy(Appendable target, Component component) throws IOException {
+        if (target instanceof StringBuilder builder) {
+            appendLegacy(builder, component);
+        } else if (component != null) {
+            target.append(LEGACY_SECTION.serialize(component));
+        }
+    }
+
+    /**
+     * Normalise the supplied text and append its plain text to a builder.
+     *
+     * @param target builder receiving the output
+     * @param input text containing legacy codes and/or MiniMessage tags
+     * @return {@code target}
+     */
+    public static StringBuilder appendPlain(StringBuilder target, String input) {
+        if (input == null || input.isEmpty()) {
+            return target;
+        }
+        if (isPlainText(input)) {
+            return target.append(input);
+        }
+        int mark = target.length();
+        if (!stripToPlain(input, target)) {
+            target.setLength(mark);
+            appendPlain(target, toComponent(input));
+        }
+        return target;
+    }
+
+    /**
+     * Append the plain text of a component to a builder, serialising straight into it.
+     *
+     * @param target builder receiving the output
+     * @param component component to serialise
+     * @return {@code target}
+     */
+    public static StringBuilder appendPlain(StringBuilder target, Component component) {
+        if (component != null) {
+            PLAIN_SERIALIZER.serialize(target, component);
+        }
+        return target;
+    }
+
+    /**
+     * Append the plain text of a component to any appendable.
+     *
+     * @param target receives the output
+     * @param component component to serialise
+     * @throws IOException if the appendable fails
+     */
+    public static void appendPlain(Appendable target, Component component) throws IOException {
+        if (target instanceof StringBuilder builder) {
+            appendPlain(builder, component);
+            return;
+        }
+        StringBuilder builder = StringBuilders.acquire();
+        try {
+            appendPlain(builder, component);
+            target.append(builder);
+        } finally {
+            StringBuilders.recycle(builder);
+        }
+    }
+
+    /**
+     * Remove legacy codes, hex sequences and styling MiniMessage tags in one pass without building a component.
+     *
+     * <p>Only syntax whose plain text is known without parsing is handled: colour and decoration codes, colour,
+     * decoration, gradient, rainbow and reset tags, and {@code <newline>}/{@code <br>}. Anything else (escapes,
+     * section signs, tags with quoted or non-colour arguments, unknown or content-inserting tags, unclosed
+     * brackets) is rejected so the caller can take the parsing path.</p>
+     *
+     * <p>MiniMessage keeps a closing tag that matches no open tag as literal text, so the tags opened so far
+     * (including the ones legacy codes stand for) are tracked, and a closing tag that does not match one of them
+     * is rejected as well.</p>
+     *
+     * @param output receives the plain text; left partially written on failure
+     * @return {@code false} if the input needs a full parse
+     */
+    static boolean stripToPlain(String input, StringBuilder output) {
+        if (input.indexOf('\u00a7') >= 0 || input.indexOf('\\') >= 0) {
+            return false;
+        }
+
+        List<String> open = new ArrayList<>();
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char current = input.charAt(i);
+            if (current == '&' && i + 1 < length) {
+                char next = Character.toLowerCase(input.charAt(i + 1));
+                if (next == 'x' && hasHexSequence(input, i)) {
+                    open.add(toHexString(input, i));
+                    i += 13;
+                } else if (next == 'r') {
+                    open.clear();
+                    i++;
+                } else if (next < LEGACY_STYLES.length && LEGACY_STYLES[next] != null) {
+                    String tag = LEGACY_TO_MINI.get(next);
+                    open.add(tag.substring(1, tag.length() - 1));
+                    i++;
+                } else {
+                    output.append(current);
+                }
+            } else if (current == '<') {
+                int end = input.indexOf('>', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                String replacement = styleTagText(input, i + 1, end);
+                if (replacement == null || !trackTag(input.substring(i + 1, end), open)) {
+                    return false;
+                }
+                output.append(replacement);
+                i = end;
+            } else {
+                output.append(current);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the plain text a tag between {@code start} and {@code end} renders to, or {@code null} if unknown
+     */
+    private static String styleTagText(String text, int start, int end) {
+        boolean closing = start < end && text.charAt(start) == '/';
+        boolean negated = start < end && text.charAt(start) == '!';
+        if (closing || negated) {
+            start++;
+        }
+        int colon = text.indexOf(':', start);
+        String name = text.substring(start, colon < 0 || colon > end ? end : colon);
+        String argument = colon < 0 || colon > end ? null : text.substring(colon + 1, end);
+
+        if (argument == null && !closing && !negated && (name.equals("newline") || name.equals("br"))) {
+            return "\n";
+        }
+        if (negated) {
+            return argument == null && DECORATION_TAGS.contains(name) ? "" : null;
+        }
+        if (argument == null) {
+            return STYLE_TAGS.contains(name) || isHexColor(name) ? "" : null;
+        }
+        if (!closing && (name.equals("color") || name.equals("colour") || name.equals("c"))) {
+            return NamedTextColor.NAMES.value(argument) != null || isHexColor(argument) ? "" : null;
+        }
+        return null;
+    }
+
+    /**
+     * Update the open tags for a tag accepted by {@link #styleTagText(String, int, int)}.
+     *
+     * @return {@code false} for a closing tag that matches no open tag
+     */
+    private static boolean trackTag(String tag, List<String> open) {
+        String name = tag.toLowerCase(Locale.ROOT);
+        if (name.startsWith("/")) {
+            int match = open.lastIndexOf(name.substring(1));
+            if (match < 0) {
+                return false;
+            }
+            // Tags opened inside the closed one are treated as closed too
+            open.subList(match, open.size()).clear();
+            return true;
+        }
+        if (name.equals("reset")) {
+            open.clear();
+        } else if (!name.equals("newline") && !name.equals("br")) {
+            int colon = name.indexOf(':');
+            open.add(colon < 0 ? name : name.substring(0, colon));
+        }
+        return true;
+    }
+
+    private static boolean isHexColor(String value) {
+        if (value.length() != 7 || value.charAt(0) != '#') {
+            return false;
+        }
+        for (int i = 1; i < 7; i++) {
+            if (!isHexDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether text contains no legacy code, section sign, MiniMessage tag or escape, so it renders as
+     * itself. {@link String#indexOf(int)} is a vectorised intrinsic, which keeps the scan cheap for the
+     * common case where none of the characters occur.
+     */
+    private static boolean isPlainText(String input) {
+        return input.indexOf('&') < 0
+                && input.indexOf('<') < 0
+                && input.indexOf('\u00a7') < 0
+                && input.indexOf('\\') < 0;
+    }
+
+    /**
+     * Check whether the plain text of a component starts with the given text, without serialising it.
+     *
+     * <p>Walks the component tree in render order and compares text content until the prefix is exhausted.
+     * Non-text components (translatables, keybinds, ...) end the walk and count as a mismatch.</p>
+     *
+     * @param component component to inspect
+     * @param prefix plain text to look for
+     * @return {@code true} if the component's plain text starts with {@code prefix}
+     */
+    public static boolean startsWithPlain(Component component, String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return true;
+        }
+        if (component == null) {
+            return false;
+        }
+        return matchPlainPrefix(component, prefix, 0) == prefix.length();
+    }
+
+    private static int matchPlainPrefix(Component component, String prefix, int matched) {
+        if (!(component instanceof TextComponent text)) {
+            return -1;
+        }
+
+        String content = text.content();
+        int length = Math.min(content.length(), prefix.length() - matched);
+        if (!content.regionMatches(0, prefix, matched, length)) {
+            return -1;
+        }
+        matched += length;
+
+        for (Component child : component.children()) {
+            if (matched == prefix.length()) {
+                break;
+            }
+            matched = matchPlainPrefix(child, prefix, matched);
+            if (matched < 0) {
+                return -1;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Distinct inputs of a batch, the slot each input reads its result from, and the parsed results.
+     */
+    private static final class Batch {
+        final List<String> distinct;
+        final int[] slots;
+        final Component[] parsed;
+
+        Batch(List<String> inputs) {
+            Map<String, Integer> index = HashMap.newHashMap(inputs.size());
+            distinct = new ArrayList<>();
+            slots = new int[inputs.size()];
+            int position = 0;
+            for (String input : inputs) {
+                Integer slot = index.putIfAbsent(input, distinct.size());
+                if (slot == null) {
+                    slot = distinct.size();
+                    distinct.add(input);
+                }
+                slots[position++] = slot;
+            }
+            parsed = new Component[distinct.size()];
+        }
+
+        void parse(int from, int to) {
+            for (int i = from; i < to; i++) {
+                parsed[i] = toComponent(distinct.get(i));
+            }
+        }
+
+        List<Component> results() {
+            Component[] components = new Component[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                components[i] = parsed[slots[i]];
+            }
+            return List.of(components);
+        }
+    }
+
+    /**
+     * Point-in-time counters of the parse cache.
+     *
+     * @param hits lookups served from the cache
+     * @param misses lookups that required a parse
+     * @param evictions entries dropped to respect the size bound
+     * @param size entries currently cached
+     * @param maximumSize configured size bound
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size, int maximumSize) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * Build a component straight from legacy codes for inputs that contain no MiniMessage syntax.
+     *
+     * <p>Mirrors how MiniMessage treats the tags {@link #convertLegacyCodes(String)} would emit: every code
+     * opens a styled node that holds all following content, {@code &r} closes every open node, and the
+     * resulting tree is compacted just like MiniMessage's default post-processor does.</p>
+     */
+    static Component parseLegacy(String text) {
+        TextComponent.Builder root = Component.text();
+        Deque<TextComponent.Builder> open = new ArrayDeque<>();
+        TextComponent.Builder current = root;
+        int segmentStart = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != '&' || i + 1 >= text.length()) {
+                continue;
+            }
+
+            char next = Character.toLowerCase(text.charAt(i + 1));
+            Style style = null;
+            int consumed = 2;
+            if (next == 'x' && hasHexSequence(text, i)) {
+                style = Style.style(TextColor.fromHexString(toHexString(text, i)));
+                consumed = 14;
+            } else if (next != 'r') {
+                style = next < LEGACY_STYLES.length ? LEGACY_STYLES[next] : null;
+                if (style == null) {
+                    continue; // not a formatting code, keep the ampersand as text
+                }
+            }
+
+            if (segmentStart < i) {
+                current.append(Component.text(text.substring(segmentStart, i)));
+            }
+
+            if (style == null) {
+                closeAll(root, open);
+                current = root;
+            } else {
+                TextComponent.Builder node = Component.text().style(style);
+                open.push(node);
+                current = node;
+            }
+
+            i += consumed - 1;
+            segmentStart = i + 1;
+        }
+
+        if (segmentStart < text.length()) {
+            current.append(Component.text(segmentStart == 0 ? text : text.substring(segmentStart)));
+        }
+        closeAll(root, open);
+        return root.build().compact();
+    }
+
+    private static void closeAll(TextComponent.Builder root, Deque<TextComponent.Builder> open) {
+        while (!open.isEmpty()) {
+            TextComponent.Builder node = open.pop();
+            TextComponent.Builder parent = open.isEmpty() ? root : open.peek();
+            parent.append(node.build());
+        }
+    }
+
     private static String convertLegacyCodes(String text) {
         StringBuilder output = new StringBuilder(text.length());
 
@@ -166,11 +848,15 @@ public final class ColorHelper {
     }
 
     private static String toMiniHex(String text, int index) {
-        StringBuilder hex = new StringBuilder(6);
+        return "<" + toHexString(text, index) + ">";
+    }
+
+    private static String toHexString(String text, int index) {
+        StringBuilder hex = new StringBuilder(7).append('#');
         for (int offset = 3; offset <= 13; offset += 2) {
             hex.append(Character.toLowerCase(text.charAt(index + offset))); // append digit
         }
-        return "<#" + hex + ">";
+        return hex.toString();
     }
 
     private static boolean isHexDigit(char c) {
@@ -0,0 +1,321 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable text template whose formatting has been parsed once, with {@code {name}} and {@code %name%}
+ * placeholders kept as typed holes.
+ *
+ * <p>Rendering only builds components for the supplied placeholder values and rebuilds the parent nodes
+ * leading to each hole; every other part of the parsed tree is shared between renders. Placeholder values
+ * are colourised on their own and inherit the style active at the position of their hole. Placeholders
+ * without a value are rendered as their literal source text, matching plain string replacement.</p>
+ *
+ * <p>Templates that use a placeholder inside a MiniMessage tag (e.g. a click command) or directly after a
+ * legacy {@code &} cannot be pre-parsed. Those fall back to substituting values into the raw text and parsing
+ * the result on every render. Instances are created through {@link ColorHelper#compile(String)}.</p>
+ *
+ * <p>{@link #bind(Function)} fills a subset of the holes up front and returns a template that only renders
+ * the remaining ones, which lets a message be rendered once and completed per recipient.</p>
+ */
+public final class CompiledText {
+    private static final String MARKER_CONTENT = "\uFFFC";
+    private static final String MARKER_INSERTION = "\u0000ysklib-hole:";
+
+    private static final int[] NO_HOLES = new int[0];
+
+    private final PlaceholderTemplate placeholders;
+    private final Component template;
+    private final Plan plan;
+    private final Component staticComponent;
+    private final String parseError;
+    private final int[] holes;
+    private final Placeholders boundValues;
+
+    CompiledText(PlaceholderTemplate placeholders, Component template, Plan plan, String parseError) {
+        this(placeholders, template, plan, parseError, allHoles(placeholders.size()), Placeholders.empty());
+    }
+
+    private CompiledText(PlaceholderTemplate placeholders, Component template, Plan plan, String parseError,
+                         int[] holes, Placeholders boundValues) {
+        this.placeholders = placeholders;
+        this.template = template;
+        this.plan = plan;
+        this.parseError = parseError;
+        this.holes = holes;
+        this.boundValues = boundValues;
+        this.staticComponent = holes.length == 0 && template != null ? template : null;
+    }
+
+    private static int[] allHoles(int count) {
+        if (count == 0) {
+            return NO_HOLES;
+        }
+        int[] holes = new int[count];
+        for (int i = 0; i < count; i++) {
+            holes[i] = i;
+        }
+        return holes;
+    }
+
+    /**
+     * @return the raw text this template was compiled from
+     */
+    public String source() {
+        return placeholders.source();
+    }
+
+    /**
+     * @return {@code true} if the template contains at least one unfilled placeholder hole
+     */
+    public boolean hasPlaceholders() {
+        return holes.length > 0;
+    }
+
+    /**
+     * @return distinct names of the unfilled placeholders in order of first appearance
+     */
+    public List<String> placeholderNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int hole : holes) {
+            names.add(placeholders.name(hole));
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * @return {@code true} if formatting was pre-parsed; {@code false} if renders reparse the raw text
+     */
+    public boolean isPreparsed() {
+        return template != null;
+    }
+
+    /**
+     * @return description of the parse failure, or {@code null} if the template parsed cleanly
+     */
+    public String parseError() {
+        return parseError;
+    }
+
+    /**
+     * Share the parsed tree of a template without placeholders with equal trees elsewhere, see
+     * {@link ComponentInterner}. Templates with holes are returned unchanged.
+     *
+     * @return an equivalent template whose component is canonical
+     */
+    public CompiledText interned() {
+        if (staticComponent == null) {
+            return this;
+        }
+        Component canonical = ComponentInterner.intern(staticComponent);
+        if (canonical == staticComponent) {
+            return this;
+        }
+        return new CompiledText(placeholders, canonical, null, parseError, NO_HOLES, Placeholders.empty());
+    }
+
+    /**
+     * Render the template without placeholder values; holes keep their literal text.
+     *
+     * @return rendered component (never {@code null})
+     */
+    public Component component() {
+        if (staticComponent != null) {
+            return staticComponent;
+        }
+        return render(name -> null);
+    }
+
+    /**
+     * Render the template with the supplied placeholder values.
+     *
+     * @param placeholders placeholder values keyed by name (without braces or percent signs)
+     * @return rendered component (never {@code null})
+     */
+    public Component render(Map<String, String> placeholders) {
+        if (placeholders == null || placeholders.isEmpty()) {
+            return component();
+        }
+        return render(placeholders::get);
+    }
+
+    /**
+     * Render the template with the supplied placeholder values.
+     *
+     * @param placeholders placeholder values keyed by name (without braces or percent signs)
+     * @return rendered component (never {@code null})
+     */
+    public Component render(Placeholders placeholders) {
+        if (placeholders == null || placeholders.isEmpty()) {
+            return component();
+        }
+        return render((Function<String, String>) placeholders);
+    }
+
+    /**
+     * Render the template, looking placeholder values up through the supplied resolver.
+     *
+     * @param resolver returns the value for a placeholder name, or {@code null} to keep the literal text
+     * @return rendered component (never {@code null})
+     */
+    public Component render(Function<String, String> resolver) {
+        if (staticComponent != null) {
+            return staticComponent;
+        }
+
+        if (template == null) {
+            if (boundValues.isEmpty()) {
+                return ColorHelper.toComponent(placeholders.apply(resolver));
+            }
+            return ColorHelper.toComponent(placeholders.apply(name -> {
+                String value = boundValues.get(name);
+                return value != null ? value : resolver.apply(name);
+            }));
+        }
+
+        Component[] values = new Component[placeholders.size()];
+        for (int hole : holes) {
+            String value = resolver.apply(placeholders.name(hole));
+            values[hole] = value == null ? Component.text(placeholders.literal(hole)) : ColorHelper.toComponent(value);
+        }
+        return plan.apply(values);
+    }
+
+    /**
+     * Fill the placeholders the resolver knows and keep the others as holes.
+     *
+     * @param resolver returns the value for a placeholder name, or {@code null} to leave the hole open
+     * @return template rendering only the remaining holes; {@code this} if nothing was filled
+     */
+    public CompiledText bind(Function<String, String> resolver) {
+        if (holes.length == 0 || resolver == null) {
+            return this;
+        }
+
+        Component[] values = new Component[placeholders.size()];
+        int[] remaining = new int[holes.length];
+        int remainingCount = 0;
+        Placeholders bound = boundValues;
+        for (int hole : holes) {
+            String value = resolver.apply(placeholders.name(hole));
+            if (value == null) {
+                remaining[remainingCount++] = hole;
+            } else if (template != null) {
+                values[hole] = ColorHelper.toComponent(value);
+            } else {
+                bound = bound.with(placeholders.name(hole), value);
+            }
+        }
+
+        if (remainingCount == holes.length) {
+            return this;
+        }
+        int[] open = remainingCount == 0 ? NO_HOLES : Arrays.copyOf(remaining, remainingCount);
+
+        if (template == null) {
+            return new CompiledText(placeholders, null, null, parseError, open, bound);
+        }
+
+        Component filled = plan.apply(values);
+        Plan filledPlan = open.length == 0 ? null : Plan.of(filled);
+        return new CompiledText(placeholders, filled, filledPlan, parseError, open, Placeholders.empty());
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledText{" + placeholders.source() + "}";
+    }
+
+    /**
+     * Path through the parsed tree leading to placeholder holes. Subtrees without holes are not
+     * represented and are reused as-is on every render.
+     */
+    static final class Plan {
+        private final Component component;
+        private final int hole;
+        private final Style holeStyle;
+        private final Plan[] children;
+
+        private Plan(Component component, int hole, Style holeStyle, Plan[] children) {
+            this.component = component;
+            this.hole = hole;
+            this.holeStyle = holeStyle;
+            this.children = children;
+        }
+
+        /**
+         * Build the plan for a parsed tree in which holes are marked by {@link CompiledText#marker(int)}.
+         *
+         * @return plan, or {@code null} if the tree contains no holes
+         */
+        static Plan of(Component component) {
+            int hole = markerIndex(component);
+            if (hole >= 0) {
+                return new Plan(component, hole, component.style().insertion(null), null);
+            }
+
+            List<Component> children = component.children();
+            Plan[] childPlans = null;
+            for (int i = 0; i < children.size(); i++) {
+                Plan childPlan = of(children.get(i));
+                if (childPlan != null) {
+                    if (childPlans == null) {
+                        childPlans = new Plan[children.size()];
+                    }
+                    childPlans[i] = childPlan;
+                }
+            }
+            return childPlans == null ? null : new Plan(component, -1, null, childPlans);
+        }
+
+        /**
+         * Rebuild the tree with hole values; holes without a value keep their marker.
+         */
+        Component apply(Component[] values) {
+            if (hole >= 0) {
+                Component value = values[hole];
+                if (value == null) {
+                    return component;
+                }
+                return holeStyle.isEmpty() ? value : value.applyFallbackStyle(holeStyle);
+            }
+
+            List<Component> original = component.children();
+            List<Component> rebuilt = new ArrayList<>(original.size());
+            for (int i = 0; i < original.size(); i++) {
+                Plan childPlan = children[i];
+                rebuilt.add(childPlan == null ? original.get(i) : childPlan.apply(values));
+            }
+            return component.children(rebuilt);
+        }
+    }
+
+    static Component marker(int index) {
+        return Component.text(MARKER_CONTENT, Style.style().insertion(MARKER_INSERTION + index).build());
+    }
+
+    private static int markerIndex(Component component) {
+        if (!(component instanceof TextComponent text) || !MARKER_CONTENT.equals(text.content())) {
+            return -1;
+        }
+        String insertion = component.style().insertion();
+        if (insertion == null || !insertion.startsWith(MARKER_INSERTION)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(insertion.substring(MARKER_INSERTION.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Canonicalises structurally equal components and styles so long-lived copies share one instance.
+ *
+ * <p>Interning is deep: children and styles are interned first, so equal subtrees of otherwise different
+ * trees are shared as well. Because children are canonical by the time their parent is interned, a node is
+ * hashed and compared by its own content, its style and the identity of its children, so a tree is interned
+ * in one bottom-up pass over its nodes. Canonical instances are held weakly and disappear once nothing else
+ * uses them. Interning is meant for components that are kept around (item names and lore, loaded messages),
+ * not for every render.</p>
+ */
+public final class ComponentInterner {
+    private static final WeakInterner<Component> COMPONENTS =
+            new WeakInterner<>(ComponentInterner::nodeHash, ComponentInterner::sameNode);
+    private static final WeakInterner<Style> STYLES = new WeakInterner<>();
+
+    private ComponentInterner() {
+    }
+
+    /**
+     * @param component component to canonicalise, may be {@code null}
+     * @return the canonical instance equal to {@code component}
+     */
+    public static Component intern(Component component) {
+        if (component == null) {
+            return null;
+        }
+
+        List<Component> children = component.children();
+        List<Component> internedChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component interned = intern(child);
+            if (interned != child && internedChildren == null) {
+                internedChildren = new ArrayList<>(children.subList(0, i));
+            }
+            if (internedChildren != null) {
+                internedChildren.add(interned);
+            }
+        }
+
+        Component rebuilt = component;
+        if (internedChildren != null) {
+            rebuilt = rebuilt.children(internedChildren);
+        }
+        Style style = rebuilt.style();
+        Style internedStyle = intern(style);
+        if (internedStyle != style) {
+            rebuilt = rebuilt.style(internedStyle);
+        }
+        return COMPONENTS.intern(rebuilt);
+    }
+
+    /**
+     * Hash of a node whose children are canonical: its content, its style and the identity of its children.
+     */
+    private static int nodeHash(Component component) {
+        int hash = component instanceof TextComponent text ? text.content().hashCode() : content(component).hashCode();
+        hash = 31 * hash + component.style().hashCode();
+        for (Component child : component.children()) {
+            hash = 31 * hash + System.identityHashCode(child);
+        }
+        return hash;
+    }
+
+    /**
+     * Equality of two nodes whose children are canonical; children are compared by identity.
+     */
+    private static boolean sameNode(Component component, Component other) {
+        if (component.getClass() != other.getClass()) {
+            return false;
+        }
+        List<Component> children = component.children();
+        List<Component> otherChildren = other.children();
+        if (children.size() != otherChildren.size()) {
+            return false;
+        }
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) != otherChildren.get(i)) {
+                return false;
+            }
+        }
+        if (!component.style().equals(other.style())) {
+            return false;
+        }
+        if (component instanceof TextComponent text) {
+            return text.content().equals(((TextComponent) other).content());
+        }
+        return content(component).equals(content(other));
+    }
+
+    /**
+     * The node without children and style, for component types other than text (translations, keybinds, ...).
+     */
+    private static Component content(Component component) {
+        return component.children(List.of()).style(Style.empty());
+    }
+
+    /**
+     * @param style style to canonicalise, may be {@code null}
+     * @return the canonical instance equal to {@code style}
+     */
+    public static Style intern(Style style) {
+        if (style == null || style.isEmpty()) {
+            return style;
+        }
+        return STYLES.intern(style);
+    }
+
+    /**
+     * Intern every component of a list.
+     *
+     * @return unmodifiable list of canonical instances in the same order
+     */
+    public static List<Component> internAll(List<Component> components) {
+        List<Component> interned = new ArrayList<>(components.size());
+        for (Component component : components) {
+            interned.add(intern(component));
+        }
+        return List.copyOf(interned);
+    }
+
+    /**
+     * @return number of canonical components currently alive
+     */
+    public static int componentCount() {
+        return COMPONENTS.size();
+    }
+
+    /**
+     * @return number of canonical styles currently alive
+     */
+    public static int styleCount() {
+        return STYLES.size();
+    }
+
+    /**
+     * Forget every canonical instance; components already interned stay valid.
+     */
+    public static void clear() {
+        COMPONENTS.clear();
+        STYLES.clear();
+    }
+}
@@ -0,0 +1,245 @@
+package org.yusaki.lib.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Raw text split once into literal segments and {@code {name}} / {@code %name%} placeholders.
+ *
+ * <p>Substitution walks the token list a single time and writes into one builder, so the cost is linear in
+ * the length of the output regardless of how many placeholders are supplied. Values are never rescanned,
+ * which means a value containing placeholder syntax is inserted verbatim.</p>
+ *
+ * <p>Brace placeholders accept any name without braces, angle brackets or line breaks. Percent placeholders
+ * accept any name without whitespace, so stray percent signs (e.g. "50% off %item%") stay literal and do not
+ * swallow the placeholder after them.</p>
+ */
+public final class PlaceholderTemplate {
+    private static final String[] NO_STRINGS = new String[0];
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final String source;
+    private final String[] segments;
+    private final String[] names;
+    private final String[] literals;
+    private final int[] offsets;
+
+    private PlaceholderTemplate(String source, String[] segments, String[] names, String[] literals, int[] offsets) {
+        this.source = source;
+        this.segments = segments;
+        this.names = names;
+        this.literals = literals;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Tokenize the supplied text.
+     *
+     * @param text raw text, may be {@code null}
+     * @return tokenized template (never {@code null})
+     */
+    public static PlaceholderTemplate parse(String text) {
+        String source = text == null ? "" : text;
+
+        List<String> segments = null;
+        List<String> names = null;
+        List<String> literals = null;
+        List<Integer> offsets = null;
+        int segmentStart = 0;
+
+        for (int i = 0; i < source.length(); i++) {
+            int end = placeholderEnd(source, i);
+            if (end < 0) {
+                continue;
+            }
+            if (segments == null) {
+                segments = new ArrayList<>();
+                names = new ArrayList<>();
+                literals = new ArrayList<>();
+                offsets = new ArrayList<>();
+            }
+            segments.add(source.substring(segmentStart, i));
+            names.add(source.substring(i + 1, end));
+            literals.add(source.substring(i, end + 1));
+            offsets.add(i);
+            segmentStart = end + 1;
+            i = end;
+        }
+
+        if (segments == null) {
+            return new PlaceholderTemplate(source, new String[]{source}, NO_STRINGS, NO_STRINGS, NO_OFFSETS);
+        }
+
+        segments.add(source.substring(segmentStart));
+        int[] offsetArray = new int[offsets.size()];
+        for (int i = 0; i < offsetArray.length; i++) {
+            offsetArray[i] = offsets.get(i);
+        }
+        return new PlaceholderTemplate(source, segments.toArray(NO_STRINGS), names.toArray(NO_STRINGS),
+                literals.toArray(NO_STRINGS), offsetArray);
+    }
+
+    /**
+     * Substitute placeholders in a single pass without keeping a template around.
+     *
+     * @param text raw text, may be {@code null}
+     * @param values placeholder values keyed by name (without braces or percent signs)
+     * @return substituted text; the input itself if nothing was replaced
+     */
+    public static String replace(String text, Map<String, String> values) {
+        if (text == null) {
+            return "";
+        }
+        if (values == null || values.isEmpty()) {
+            return text;
+        }
+
+        StringBuilder builder = null;
+        int copied = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int end = placeholderEnd(text, i);
+            if (end < 0) {
+                continue;
+            }
+            String value = values.get(text.substring(i + 1, end));
+            if (value == null) {
+                i = end;
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(text.length() + 16);
+            }
+            builder.append(text, copied, i).append(value);
+            copied = end + 1;
+            i = end;
+        }
+
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * @return the raw text this template was tokenized from
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * @return number of placeholder occurrences
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return {@code true} if the text contains at least one placeholder
+     */
+    public boolean hasPlaceholders() {
+        return names.length > 0;
+    }
+
+    /**
+     * @param index placeholder occurrence
+     * @return placeholder name without braces or percent signs
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index placeholder occurrence
+     * @return placeholder exactly as written in the source, e.g. {@code {player}}
+     */
+    public String literal(int index) {
+        return literals[index];
+    }
+
+    /**
+     * @param index placeholder occurrence
+     * @return offset of the placeholder's opening character in the source
+     */
+    public int offset(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * @param index segment index, from {@code 0} to {@link #size()} inclusive
+     * @return literal text preceding placeholder {@code index}, or trailing the last one
+     */
+    public String segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Substitute placeholder values; unresolved placeholders keep their literal text.
+     *
+     * @param resolver returns the value for a placeholder name, or {@code null} if unknown
+     * @return substituted text
+     */
+    public String apply(Function<String, String> resolver) {
+        if (names.length == 0) {
+            return source;
+        }
+        StringBuilder builder = StringBuilders.acquire();
+        appendTo(builder, resolver);
+        return StringBuilders.release(builder);
+    }
+
+    /**
+     * Substitute placeholder values into an existing builder.
+     *
+     * @param target builder receiving the output
+     * @param resolver returns the value for a placeholder name, or {@code null} if unknown
+     */
+    public void appendTo(StringBuilder target, Function<String, String> resolver) {
+        for (int i = 0; i < names.length; i++) {
+            target.append(segments[i]);
+            String value = resolver.apply(names[i]);
+            target.append(value == null ? literals[i] : value);
+        }
+        target.append(segments[names.length]);
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceholderTemplate{" + source + "}";
+    }
+
+    /**
+     * Locate the end of a placeholder starting at {@code index}.
+     *
+     * @return index of the closing brace or percent sign, or {@code -1} if no placeholder starts here
+     */
+    private static int placeholderEnd(String text, int index) {
+        char open = text.charAt(index);
+        if (open == '{') {
+            for (int i = index + 1; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '}') {
+                    return i > index + 1 ? i : -1;
+                }
+                if (c == '{' || c == '<' || c == '>' || c == '\n') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+        if (open == '%') {
+            for (int i = index + 1; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '%') {
+                    return i > index + 1 ? i : -1;
+                }
+                if (Character.isWhitespace(c)) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
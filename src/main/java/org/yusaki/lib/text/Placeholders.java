@@ -0,0 +1,164 @@
+package org.yusaki.lib.text;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable, array-backed set of placeholder values.
+ *
+ * <p>Keys and values are stored in one flat {@code key, value, key, value, ...} array and looked up with a
+ * linear scan, which beats hashing for the handful of placeholders a message typically carries. When a key
+ * occurs more than once the last value wins, matching repeated {@link Map#put} calls. {@code null} keys and
+ * values are treated as absent. Instances can be passed anywhere a placeholder resolver is expected.</p>
+ */
+public final class Placeholders implements Function<String, String> {
+    private static final Placeholders EMPTY = new Placeholders(new String[0], 0);
+
+    private final String[] pairs;
+    private final int length;
+
+    private Placeholders(String[] pairs, int length) {
+        this.pairs = pairs;
+        this.length = length;
+    }
+
+    /**
+     * @return the shared empty instance
+     */
+    public static Placeholders empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create placeholders with a single value.
+     */
+    public static Placeholders of(String key, String value) {
+        return new Placeholders(new String[]{key, value}, 2);
+    }
+
+    /**
+     * Create placeholders with two values.
+     */
+    public static Placeholders of(String key1, String value1, String key2, String value2) {
+        return new Placeholders(new String[]{key1, value1, key2, value2}, 4);
+    }
+
+    /**
+     * Create placeholders from alternating keys and values. The array is used as-is and must not be
+     * modified afterwards; a trailing key without a value is ignored.
+     *
+     * @param keyValuePairs alternating keys and values
+     * @return placeholders backed by the supplied array
+     */
+    public static Placeholders of(String... keyValuePairs) {
+        if (keyValuePairs == null || keyValuePairs.length < 2) {
+            return EMPTY;
+        }
+        return new Placeholders(keyValuePairs, keyValuePairs.length & ~1);
+    }
+
+    /**
+     * Create placeholders from alternating keys and values of any type, converted with {@link String#valueOf}.
+     * Pairs with a {@code null} key or value are skipped, so their placeholders stay untouched.
+     *
+     * @param keyValuePairs alternating keys and values
+     * @return placeholders holding the converted values
+     */
+    public static Placeholders fromObjects(Object... keyValuePairs) {
+        if (keyValuePairs == null || keyValuePairs.length < 2) {
+            return EMPTY;
+        }
+        String[] pairs = new String[keyValuePairs.length & ~1];
+        int length = 0;
+        for (int i = 0; i + 1 < keyValuePairs.length; i += 2) {
+            Object key = keyValuePairs[i];
+            Object value = keyValuePairs[i + 1];
+            if (key != null && value != null) {
+                pairs[length++] = String.valueOf(key);
+                pairs[length++] = String.valueOf(value);
+            }
+        }
+        return length == 0 ? EMPTY : new Placeholders(pairs, length);
+    }
+
+    /**
+     * Copy placeholders from a map.
+     *
+     * @param values placeholder values keyed by name
+     * @return placeholders holding the map's entries
+     */
+    public static Placeholders of(Map<String, String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        String[] pairs = new String[values.size() * 2];
+        int index = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            pairs[index++] = entry.getKey();
+            pairs[index++] = entry.getValue();
+        }
+        return new Placeholders(pairs, index);
+    }
+
+    /**
+     * Return a copy with one more value; it takes precedence over an existing value for the same key.
+     */
+    public Placeholders with(String key, String value) {
+        String[] extended = Arrays.copyOf(pairs, length + 2);
+        extended[length] = key;
+        extended[length + 1] = value;
+        return new Placeholders(extended, length + 2);
+    }
+
+    /**
+     * Look up a placeholder value.
+     *
+     * @param key placeholder name without braces or percent signs
+     * @return the value, or {@code null} if absent
+     */
+    public String get(String key) {
+        for (int i = length - 2; i >= 0; i -= 2) {
+            String candidate = pairs[i];
+            if (candidate != null && candidate.equals(key)) {
+                return pairs[i + 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String apply(String key) {
+        return get(key);
+    }
+
+    /**
+     * @return number of stored key/value pairs, counting duplicates
+     */
+    public int size() {
+        return length >> 1;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * @return a mutable copy of the values, last value winning for duplicate keys
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < length; i += 2) {
+            if (pairs[i] != null && pairs[i + 1] != null) {
+                map.put(pairs[i], pairs[i + 1]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "Placeholders" + toMap();
+    }
+}
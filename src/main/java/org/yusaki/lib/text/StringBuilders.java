@@ -0,0 +1,49 @@
+package org.yusaki.lib.text;
+
+/**
+ * Per-thread reusable {@link StringBuilder} for building short-lived strings.
+ *
+ * <p>Each thread keeps one builder. {@link #acquire()} hands it out and a nested acquire on the same thread
+ * gets a fresh builder instead, so callers never share a buffer. Builders that grew past
+ * {@value #MAX_RETAINED_CAPACITY} characters are not kept, which bounds the memory held per thread.</p>
+ */
+final class StringBuilders {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private static final ThreadLocal<StringBuilder> POOL = new ThreadLocal<>();
+
+    private StringBuilders() {
+    }
+
+    /**
+     * @return an empty builder owned by the caller until it is released
+     */
+    static StringBuilder acquire() {
+        StringBuilder builder = POOL.get();
+        if (builder == null) {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+        POOL.set(null);
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Copy out the builder's content and return it to the pool.
+     */
+    static String release(StringBuilder builder) {
+        String result = builder.toString();
+        recycle(builder);
+        return result;
+    }
+
+    /**
+     * Return a builder to the pool without reading it.
+     */
+    static void recycle(StringBuilder builder) {
+        if (builder.capacity() <= MAX_RETAINED_CAPACITY) {
+            POOL.set(builder);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.yusaki.lib.text;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Concurrent interner that maps equal values to one canonical instance and holds canonical instances weakly.
+ *
+ * <p>Entries are weak references that compare by the equality of their referents, so the table never keeps
+ * a value alive on its own. Cleared entries are removed from a reference queue on the next intern call.
+ * Equality defaults to {@code equals} and {@code hashCode}; callers that know more about their values (e.g.
+ * that nested parts are already canonical) can supply a cheaper equivalence.</p>
+ *
+ * @param <T> value type
+ */
+final class WeakInterner<T> {
+    private final ConcurrentHashMap<Object, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+    private final ToIntFunction<? super T> hasher;
+    private final BiPredicate<? super T, ? super T> equivalence;
+
+    WeakInterner() {
+        this(Object::hashCode, Object::equals);
+    }
+
+    /**
+     * @param hasher hash consistent with {@code equivalence}
+     * @param equivalence decides whether two values share a canonical instance
+     */
+    WeakInterner(ToIntFunction<? super T> hasher, BiPredicate<? super T, ? super T> equivalence) {
+        this.hasher = hasher;
+        this.equivalence = equivalence;
+    }
+
+    /**
+     * @return the canonical instance equal to {@code value}; {@code value} itself if none was interned yet
+     */
+    T intern(T value) {
+        expunge();
+        int hash = hasher.applyAsInt(value);
+        Entry<T> existing = entries.get(new Lookup<>(this, value, hash));
+        T canonical = existing == null ? null : existing.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        Entry<T> entry = new Entry<>(this, value, hash, queue);
+        while (true) {
+            Entry<T> previous = entries.putIfAbsent(entry, entry);
+            if (previous == null) {
+                return value;
+            }
+            canonical = previous.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            // The previous canonical instance was collected; take its place
+            entries.remove(previous, previous);
+        }
+    }
+
+    int size() {
+        expunge();
+        return entries.size();
+    }
+
+    void clear() {
+        entries.clear();
+        expunge();
+    }
+
+    private void expunge() {
+        Reference<? extends T> cleared;
+        while ((cleared = queue.poll()) != null) {
+            entries.remove(cleared, cleared);
+        }
+    }
+
+    private boolean equivalent(T value, T other) {
+        return value == other || equivalence.test(value, other);
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+        private final WeakInterner<T> owner;
+        private final int hash;
+
+        Entry(WeakInterner<T> owner, T value, int hash, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.owner = owner;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Entry<?> entry) || entry.hash != hash || entry.owner != owner) {
+                return false;
+            }
+            T value = get();
+            T otherValue = (T) entry.get();
+            return value != null && otherValue != null && owner.equivalent(value, otherValue);
+        }
+    }
+
+    /**
+     * Strong probe used for lookups; equal to an entry whose referent is equivalent to the probed value.
+     */
+    private static final class Lookup<T> {
+        private final WeakInterner<T> owner;
+        private final T value;
+        private final int hash;
+
+        Lookup(WeakInterner<T> owner, T value, int hash) {
+            this.owner = owner;
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(Object other) {
+            if (!(other instanceof Entry<?> entry) || entry.hashCode() != hash) {
+                return false;
+            }
+            T canonical = (T) entry.get();
+            return canonical != null && owner.equivalent(value, canonical);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.yusaki.lib.modules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Expansion of message references, including a locale bundle falling back to default messages that are
+ * reloaded afterwards.
+ */
+class MessageReferencesTest {
+
+    @Test
+    void expandsNestedReferences() {
+        Map<String, String> messages = Map.of("name", "Alice", "greet", "{msg:name} says hi", "outer", "<msg:greet>!");
+        MessageReferences references = new MessageReferences(messages::get, warning -> {
+            throw new AssertionError(warning);
+        });
+        assertEquals("Alice says hi!", references.expand("outer", messages.get("outer")));
+    }
+
+    @Test
+    void reportsCyclesAndUnknownKeys() {
+        Map<String, String> messages = Map.of("a", "{msg:b}", "b", "{msg:a}", "c", "{msg:missing}");
+        List<String> warnings = new ArrayList<>();
+        MessageReferences references = new MessageReferences(messages::get, warnings::add);
+        assertEquals("{msg:missing}", references.expand("c", messages.get("c")));
+        references.expand("a", messages.get("a"));
+        assertEquals(2, warnings.size());
+    }
+
+    @Test
+    void localeEntriesFallingBackToDefaultsAreExpandedAgainAfterReload() {
+        Map<String, String> locale = Map.of(
+                "greet", "{msg:server} sagt hallo",
+                "outer", "<msg:greet>!",
+                "own", "{msg:title} bleibt",
+                "title", "Titel");
+        Map<String, String> defaults = new HashMap<>(Map.of("server", "Lobby", "title", "Title"));
+
+        Map<String, String> expanded = expandBundle(locale, defaults);
+        assertEquals("Lobby sagt hallo!", expanded.get("outer"));
+
+        Map<String, Set<String>> dependents = new HashMap<>();
+        locale.forEach((key, raw) -> MessageReferences.addDependents(dependents, key, raw));
+        Set<String> stale = MessageReferences.fallbackDependents(dependents, locale::containsKey);
+        assertEquals(Set.of("greet", "outer"), stale);
+
+        // Reload the defaults, then expand only the stale entries again
+        defaults.put("server", "Survival");
+        Map<String, String> reloaded = expandBundle(locale, defaults);
+        for (String key : stale) {
+            expanded.put(key, reloaded.get(key));
+        }
+        assertEquals("Survival sagt hallo!", expanded.get("outer"));
+        assertEquals("Survival sagt hallo", expanded.get("greet"));
+        assertEquals("Titel bleibt", expanded.get("own"));
+        assertTrue(MessageReferences.fallbackDependents(dependents, key -> true).isEmpty());
+    }
+
+    private static Map<String, String> expandBundle(Map<String, String> locale, Map<String, String> defaults) {
+        MessageReferences references = new MessageReferences(key -> {
+            String raw = locale.get(key);
+            return raw != null ? raw : defaults.get(key);
+        }, warning -> {
+            throw new AssertionError(warning);
+        });
+        Map<String, String> expanded = new HashMap<>();
+        locale.forEach((key, raw) -> expanded.put(key, references.expand(key, raw)));
+        return expanded;
+    }
+}
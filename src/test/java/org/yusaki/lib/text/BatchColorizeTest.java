@@ -0,0 +1,47 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BatchColorizeTest {
+
+    @Test
+    void keepsInputOrderAndSharesDuplicates() {
+        List<String> inputs = Arrays.asList("&aGreen", "<red>Red", "&aGreen", null, "plain");
+        List<Component> components = ColorHelper.toComponents(inputs);
+
+        assertEquals(inputs.size(), components.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(ColorHelper.toComponent(inputs.get(i)), components.get(i));
+        }
+        assertSame(components.get(0), components.get(2));
+    }
+
+    @Test
+    void runsEveryChunkOnTheSuppliedExecutor() {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            inputs.add("&" + "0123456789abcdef".charAt(i % 600 % 16) + "Line " + (i % 600));
+        }
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+
+        List<Component> components = ColorHelper.toComponentsAsync(inputs, executor).join();
+
+        assertEquals(ColorHelper.toComponents(inputs), components);
+        // 600 distinct inputs make three chunks
+        assertEquals(3, tasks.get());
+    }
+}
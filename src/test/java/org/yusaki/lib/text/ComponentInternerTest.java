@@ -0,0 +1,67 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link ComponentInterner} must hand back one instance per distinct tree, sharing children and styles too.
+ */
+class ComponentInternerTest {
+
+    @Test
+    void equalTreesShareOneInstance() {
+        Component first = ComponentInterner.intern(ColorHelper.toComponent("&7Price: &a$100"));
+        Component second = ComponentInterner.intern(ColorHelper.toComponent("&7Price: &a$100"));
+        assertSame(first, second);
+    }
+
+    @Test
+    void equalSubtreesAndStylesAreShared() {
+        Component first = ComponentInterner.intern(ColorHelper.toComponent("&7Stock: &a$100"));
+        Component second = ComponentInterner.intern(ColorHelper.toComponent("&7Price: &a$100"));
+        assertSame(first.children().get(first.children().size() - 1),
+                second.children().get(second.children().size() - 1));
+        assertSame(first.style(), second.style());
+    }
+
+    @Test
+    void internsDeepTreesNodeByNode() {
+        Component leaf = Component.text("leaf", NamedTextColor.RED);
+        Component deep = leaf;
+        Component copy = Component.text("leaf", NamedTextColor.RED);
+        for (int i = 0; i < 50; i++) {
+            deep = Component.text("level " + i).append(deep);
+            copy = Component.text("level " + i).append(copy);
+        }
+        Component first = ComponentInterner.intern(deep);
+        Component second = ComponentInterner.intern(copy);
+        assertSame(first, second);
+        assertEquals(deep, first);
+    }
+
+    @Test
+    void distinguishesNodesOtherThanText() {
+        Component first = ComponentInterner.intern(Component.translatable("block.minecraft.stone"));
+        Component second = ComponentInterner.intern(Component.translatable("block.minecraft.dirt"));
+        Component third = ComponentInterner.intern(Component.translatable("block.minecraft.stone"));
+        assertNotSame(first, second);
+        assertSame(first, third);
+        assertNotSame(ComponentInterner.intern(Component.text("a")),
+                ComponentInterner.intern(Component.text("a").append(Component.text("b"))));
+    }
+
+    @Test
+    void keepsContentAndOrder() {
+        List<Component> lore = List.of(ColorHelper.toComponent("&aOne"), ColorHelper.toComponent("&bTwo"));
+        assertEquals(lore, ComponentInterner.internAll(lore));
+        assertNull(ComponentInterner.intern((Component) null));
+    }
+}
@@ -0,0 +1,39 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * {@link ColorHelper#fromLegacyCodes(String)} keeps Bukkit's legacy rules, unlike {@link ColorHelper#toComponent(String)}.
+ */
+class LegacyCodesTest {
+
+    @Test
+    void colourCodeResetsDecorations() {
+        Component component = ColorHelper.fromLegacyCodes("&lBold &aGreen");
+        Component green = component.children().get(component.children().size() - 1);
+        assertEquals("Green", ColorHelper.toPlain(green));
+        assertEquals(NamedTextColor.GREEN, green.color());
+        assertNotEquals(TextDecoration.State.TRUE, green.decoration(TextDecoration.BOLD));
+    }
+
+    @Test
+    void tagsAndPlaceholdersStayLiteral() {
+        assertEquals("<red>Shop {page} %player%",
+                ColorHelper.toPlain(ColorHelper.fromLegacyCodes("<red>Shop {page} %player%")));
+    }
+
+    @Test
+    void translatesLikeChatColor() {
+        assertEquals("Tom & Jerry &z", ColorHelper.toPlain(ColorHelper.fromLegacyCodes("Tom & Jerry &z")));
+        Component hex = ColorHelper.fromLegacyCodes("&X&F&F&0&0&0&0Red");
+        assertEquals(TextColor.color(0xFF0000), hex.color() != null ? hex.color() : hex.children().get(0).color());
+        assertEquals(Component.empty(), ColorHelper.fromLegacyCodes(null));
+    }
+}
@@ -0,0 +1,83 @@
+package org.yusaki.lib.text;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential test of the legacy-only fast path: {@link ColorHelper#parseLegacy(String)} must build the same
+ * tree as converting the codes to tags and parsing them with MiniMessage.
+ */
+class LegacyParseParityTest {
+    private static final String[] TOKENS = {
+            "&a", "&C", "&l", "&L", "&o", "&n", "&m", "&k", "&r", "&R", "&0", "&f", "&9",
+            "&x&f&f&0&0&a&a", "&X&1&2&3&4&5&6", "&x&g&0&0&0&0&0", "&x&1&2",
+            "&", "&&", "&z", "& ", "&#", "text", "Hello", " ", "a&", "123", "é", "\n"
+    };
+
+    static Stream<String> corpus() {
+        return Stream.of(
+                "plain text",
+                "&aGreen",
+                "&aGreen &bAqua",
+                "&a&lBold green",
+                "&l&aGreen after bold",
+                "&lBold &rreset",
+                "&r",
+                "&rLeading reset",
+                "Trailing reset&r",
+                "&a&r&b",
+                "&a&r&r&b",
+                "&aOne&r&bTwo&rThree",
+                "&a",
+                "&a&b&c",
+                "Text &aGreen &lBold &oItalic &rplain &nunder",
+                "&x&f&f&0&0&0&0Red hex",
+                "&X&F&F&0&0&0&0Upper hex",
+                "&x&f&f&0&0&0Too short",
+                "&x&g&g&0&0&0&0Not hex",
+                "&x",
+                "Tom & Jerry",
+                "&&a",
+                "100&",
+                "&zUnknown code",
+                "&7[&6Shop&7] &fYou bought &e3x &bDiamond &ffor &a$100",
+                "&l&m&n&o&kAll decorations",
+                "&aA&aA&aA",
+                "&6&lGOLD&r &7gray &8dark",
+                "Line one\nLine two &cred",
+                "&aéè unicode"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void matchesMiniMessage(String input) {
+        assertParity(input);
+    }
+
+    @Test
+    void matchesMiniMessageOnRandomInput() {
+        Random random = new Random(0x59534BL);
+        for (int run = 0; run < 5000; run++) {
+            StringBuilder input = new StringBuilder();
+            int tokens = 1 + random.nextInt(12);
+            for (int i = 0; i < tokens; i++) {
+                input.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertParity(input.toString());
+        }
+    }
+
+    private static void assertParity(String input) {
+        Component expected = ColorHelper.parseMiniMessage(input);
+        Component actual = ColorHelper.parseLegacy(input);
+        assertEquals(expected, actual, () -> "Legacy fast path differs for: " + input);
+    }
+}
@@ -0,0 +1,43 @@
+package org.yusaki.lib.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Placeholder grammar of {@link PlaceholderTemplate}, one-shot and parsed.
+ */
+class PlaceholderTemplateTest {
+
+    @Test
+    void percentNamesAcceptAnyNonWhitespace() {
+        Map<String, String> values = Map.of("kills/day", "12", "a-b.c:d", "x", "é", "accent");
+        String text = "%kills/day% %a-b.c:d% %é%";
+        assertEquals("12 x accent", PlaceholderTemplate.replace(text, values));
+        assertEquals("12 x accent", PlaceholderTemplate.parse(text).apply(values::get));
+    }
+
+    @Test
+    void strayPercentSignsStayLiteral() {
+        Map<String, String> values = Map.of("item", "Diamond");
+        String text = "50% off %item% and 100%";
+        assertEquals("50% off Diamond and 100%", PlaceholderTemplate.replace(text, values));
+        assertEquals("50% off Diamond and 100%", PlaceholderTemplate.parse(text).apply(values::get));
+        assertEquals("%% %", PlaceholderTemplate.replace("%% %", values));
+    }
+
+    @Test
+    void braceNamesMayContainSpaces() {
+        Map<String, String> values = Map.of("my key", "value");
+        assertEquals("value %my key%", PlaceholderTemplate.replace("{my key} %my key%", values));
+    }
+
+    @Test
+    void unresolvedPlaceholdersKeepTheirText() {
+        PlaceholderTemplate template = PlaceholderTemplate.parse("{a} %b% {c}");
+        assertEquals(3, template.size());
+        assertEquals("1 %b% {c}", template.apply(name -> name.equals("a") ? "1" : null));
+    }
+}
@@ -0,0 +1,30 @@
+package org.yusaki.lib.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Lookup rules of {@link Placeholders}.
+ */
+class PlaceholdersTest {
+
+    @Test
+    void nullObjectValuesLeaveThePlaceholderUntouched() {
+        Placeholders placeholders = Placeholders.fromObjects("player", null, "count", 3, null, "x");
+        assertNull(placeholders.get("player"));
+        assertNull(placeholders.get("null"));
+        assertEquals("3", placeholders.get("count"));
+        assertEquals(1, placeholders.size());
+        assertEquals("{player} has 3", PlaceholderTemplate.parse("{player} has {count}").apply(placeholders));
+        assertSame(Placeholders.empty(), Placeholders.fromObjects("player", null));
+    }
+
+    @Test
+    void lastValueWins() {
+        Placeholders placeholders = Placeholders.of("a", "1").with("a", "2");
+        assertEquals("2", placeholders.get("a"));
+    }
+}
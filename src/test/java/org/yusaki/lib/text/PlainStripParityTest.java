@@ -0,0 +1,88 @@
+package org.yusaki.lib.text;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential test of {@link ColorHelper#stripToPlain(String, StringBuilder)}: whenever it accepts an input,
+ * its output must equal the plain text serializer applied to the fully parsed component.
+ */
+class PlainStripParityTest {
+    private static final String[] TOKENS = {
+            "&a", "&L", "&r", "&x&f&f&0&0&a&a", "&X&A&b&C&d&E&f", "&x&1&2", "&", "&z",
+            "<red>", "</red>", "<RED>", "</RED>", "</Red>", "<bold>", "</bold>", "<b>", "<!italic>", "<!bold>", "</reset>", "<reset>",
+            "<br>", "<newline>", "</br>", "<#FF00aa>", "<#ff00AA>", "</#ff00aa>", "<#ff00a>", "<#gg0000>",
+            "<color:red>", "<color:#AbCdEf>", "<c:&a>", "<color:&x&f&f&0&0&0&0>", "</color>", "<colour:blue>",
+            "<gradient:red:blue>", "</gradient>", "<rainbow>", "</rainbow>", "<rainbow:!>",
+            "<hover:show_text:'x'>", "<click:run_command:/a>", "<key:key.jump>", "<lang:item.stick>",
+            "<unknown>", "<>", "< red>", "<red", ">", "<", "&<red>", "<&a>", "<red>&a",
+            "text", " ", "Hello", "&amp;", "<3", "a < b", "\n"
+    };
+
+    static Stream<String> corpus() {
+        return Stream.of(
+                "plain text",
+                "&aGreen &lbold &rplain",
+                "<red>Red</red> text",
+                "</reset>Unmatched reset close",
+                "</red>Close with nothing open",
+                "</bold></italic>text",
+                "Line<br>break",
+                "Line<newline>break",
+                "<br/>Self closing",
+                "<#FF00AA>Upper hex</#FF00AA>",
+                "<#ff00aa>lower <#Ff00aA>mixed",
+                "<#FF00A>short hex",
+                "&x&f&f&0&0&0&0<red>hex then tag",
+                "<red>&x&f&f&0&0&0&0tag then hex",
+                "<color:&a>code in argument",
+                "<color:red>named</color> <c:#00ff00>hex argument",
+                "<gradient:red:blue>Gradient</gradient>",
+                "<rainbow>Rainbow</rainbow>",
+                "<!italic>Not italic",
+                "<!red>Negated colour",
+                "Price < 100 & > 50",
+                "<3 hearts",
+                "a <unknown> tag",
+                "<hover:show_text:'Hi'>Hover</hover>",
+                "<RED>Upper case tag</RED>",
+                "&l<bold>double bold</bold>&r",
+                "<reset>reset tag",
+                "Tom & Jerry &z"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void matchesPlainSerializer(String input) {
+        assertParity(input);
+    }
+
+    @Test
+    void matchesPlainSerializerOnRandomInput() {
+        Random random = new Random(0x50_4C_41_49L);
+        for (int run = 0; run < 5000; run++) {
+            StringBuilder input = new StringBuilder();
+            int tokens = 1 + random.nextInt(10);
+            for (int i = 0; i < tokens; i++) {
+                input.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertParity(input.toString());
+        }
+    }
+
+    private static void assertParity(String input) {
+        StringBuilder stripped = new StringBuilder();
+        if (!ColorHelper.stripToPlain(input, stripped)) {
+            return; // declined, the caller parses instead
+        }
+        String expected = ColorHelper.toPlain(ColorHelper.toComponent(input));
+        assertEquals(expected, stripped.toString(), () -> "Plain strip differs for: " + input);
+    }
+}